@@ -0,0 +1,466 @@
+package jehlenfeldt.assessments.rectangleoperations.resources;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyAxis;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyType;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.LongAdjacency;
+import jehlenfeldt.assessments.rectangleoperations.resources.counting.RelationshipCounter;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.OperationCancelledException;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.IntersectionType;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.LongIntersections;
+import jehlenfeldt.assessments.rectangleoperations.resources.relationship.RelationshipClassifier;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.CancellationToken;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.LongNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * A {@link Rectangle} with long coordinates, for layouts whose extent does not fit into an int. Unlike {@link Rectangle},
+ * coordinates may be negative, so layouts centred on the origin need no shifting pass.
+ *
+ * The intersection, containment and adjacency semantics, as well as the order of returned nodes and adjacencies, match
+ * {@link Rectangle} exactly. Lines are compared with each other, and wherever they are subtracted to produce a count the
+ * arithmetic is exact, so no coordinate can overflow silently. This also holds for {@link RelationshipClassifier},
+ * {@link AdjacencyType#determine} and {@link RelationshipCounter}, whose long code paths are shared with {@link Rectangle}.
+ * Intersections are found by intersecting the border segments directly rather than by comparing node lists, so the cost
+ * depends on the number of shared nodes and not on the perimeters.
+ */
+public class LongRectangle {
+    private static final long CANCELLATION_CHECK_MASK = 1023;
+    private static final long MAXIMUM_LIST_SIZE = Integer.MAX_VALUE - 8;
+    private static final long[] NO_RANGES = new long[0];
+    private static final String INVALID_LINES_MESSAGE = "Invalid dimensions have been provided for your rectangle. Please ensure that the left"
+            + " x-line is less than the right x-line and that the lower y-line is less than the upper y-line.";
+
+    private final LongNode upperLeftCorner;
+    private final LongNode lowerLeftCorner;
+    private final LongNode upperRightCorner;
+    private final LongNode lowerRightCorner;
+
+    /**
+     * Generates a rectangle object based on the input of two opposing corners of the rectangle. Any long coordinates are accepted.
+     * @param upperLeftCorner The {@link LongNode} specifying the x and y coordinates of the upper left corner of the rectangle.
+     * @param lowerRightCorner The {@link LongNode} specifying the x and y coordinates of the lower right corner of the rectangle.
+     */
+    public LongRectangle(LongNode upperLeftCorner, LongNode lowerRightCorner) throws InvalidDimensionsException {
+        if (upperLeftCorner.getXCoordinate() >= lowerRightCorner.getXCoordinate()
+                || lowerRightCorner.getYCoordinate() >= upperLeftCorner.getYCoordinate()) {
+            throw new InvalidDimensionsException(INVALID_LINES_MESSAGE);
+        }
+        this.upperLeftCorner = upperLeftCorner;
+        this.lowerRightCorner = lowerRightCorner;
+        this.lowerLeftCorner = new LongNode(upperLeftCorner.getXCoordinate(), lowerRightCorner.getYCoordinate());
+        this.upperRightCorner = new LongNode(lowerRightCorner.getXCoordinate(), upperLeftCorner.getYCoordinate());
+    }
+
+    public LongNode getUpperLeftCorner() {
+        return upperLeftCorner;
+    }
+
+    public LongNode getLowerLeftCorner() {
+        return lowerLeftCorner;
+    }
+
+    public LongNode getUpperRightCorner() {
+        return upperRightCorner;
+    }
+
+    public LongNode getLowerRightCorner() {
+        return lowerRightCorner;
+    }
+
+    public long getRightXLine() {
+        return this.lowerRightCorner.getXCoordinate();
+    }
+
+    public long getLeftXLine() {
+        return this.upperLeftCorner.getXCoordinate();
+    }
+
+    public long getUpperYLine() {
+        return this.upperLeftCorner.getYCoordinate();
+    }
+
+    public long getLowerYLine() {
+        return this.lowerLeftCorner.getYCoordinate();
+    }
+
+    /**
+     * Counts the integer nodes on the border of this rectangle without creating them.
+     *
+     * @return Returns the number of nodes {@link #getListOfIntegerNodes()} would return.
+     * @throws ArithmeticException if the count does not fit into a long.
+     */
+    public long getIntegerNodeCount() {
+        return Math.addExact(Math.multiplyExact(2L, Math.subtractExact(this.getRightXLine(), this.getLeftXLine())),
+                Math.multiplyExact(2L, Math.subtractExact(this.getUpperYLine(), this.getLowerYLine())));
+    }
+
+    /**
+     * Returns a list of all integer nodes defined by the borders of this rectangle, in the same order as {@link Rectangle#getListOfIntegerNodes()}.
+     *
+     * @return Returns a list of all integer {@link LongNode}s defined by this rectangle.
+     * @throws IllegalStateException if the border holds more nodes than a list can.
+     */
+    public List<LongNode> getListOfIntegerNodes() {
+        return getListOfIntegerNodes(CancellationToken.NONE);
+    }
+
+    /**
+     * Returns a list of all integer nodes defined by the borders of this rectangle, polling the provided token while enumerating.
+     *
+     * @param cancellationToken: The token to poll for cancellation.
+     * @return Returns a list of all integer {@link LongNode}s defined by this rectangle.
+     * @throws IllegalStateException if the border holds more nodes than a list can.
+     * @throws OperationCancelledException if the token is cancelled before the enumeration finishes.
+     */
+    public List<LongNode> getListOfIntegerNodes(CancellationToken cancellationToken) throws OperationCancelledException {
+        List<LongNode> nodesList = new ArrayList<>(checkListSize(getIntegerNodeCount()));
+        long[] rowRange = {this.getLeftXLine(), this.getRightXLine()};
+        interleave(rowRange, x -> new LongNode(x, this.getUpperYLine()), rowRange, x -> new LongNode(x, this.getLowerYLine()), cancellationToken, nodesList);
+
+        if (this.getLowerYLine() + 1 <= this.getUpperYLine() - 1) {
+            long[] columnRange = {this.getLowerYLine() + 1, this.getUpperYLine() - 1};
+            interleave(columnRange, y -> new LongNode(this.getLeftXLine(), y), columnRange, y -> new LongNode(this.getRightXLine(), y), cancellationToken, nodesList);
+        }
+        return nodesList;
+    }
+
+    /**
+     * Identifies any intersections between the lines that make up the provided rectangle and this one.
+     *
+     * @param secondRectangle: The rectangle to compare against.
+     * @return Returns a {@link LongIntersections} object containing information about any intersections that may have been found.
+     * @throws IllegalStateException if the rectangles share more nodes than a list can hold.
+     */
+    public LongIntersections identifyIntersections(LongRectangle secondRectangle) {
+        return identifyIntersections(secondRectangle, CancellationToken.NONE);
+    }
+
+    /**
+     * Identifies any intersections between the lines that make up the provided rectangle and this one, polling the provided token while enumerating.
+     *
+     * @param secondRectangle: The rectangle to compare against.
+     * @param cancellationToken: The token to poll for cancellation.
+     * @return Returns a {@link LongIntersections} object containing information about any intersections that may have been found.
+     * @throws IllegalStateException if the rectangles share more nodes than a list can hold.
+     * @throws OperationCancelledException if the token is cancelled before the intersections are identified.
+     */
+    public LongIntersections identifyIntersections(LongRectangle secondRectangle, CancellationToken cancellationToken) throws OperationCancelledException {
+        if (this.equals(secondRectangle)) {
+            return new LongIntersections(IntersectionType.ALL_POINTS_INTERSECT, this.getListOfIntegerNodes(cancellationToken));
+        }
+
+        if (noIntersectionsExist(secondRectangle)) {
+            return new LongIntersections(IntersectionType.NON_INTERSECTING, new ArrayList<>());
+        }
+
+        List<LongNode> intersectingNodes = new ArrayList<>(checkListSize(countSharedBorderNodes(secondRectangle)));
+        interleave(rowOverlap(this.getUpperYLine(), secondRectangle), x -> new LongNode(x, this.getUpperYLine()),
+                rowOverlap(this.getLowerYLine(), secondRectangle), x -> new LongNode(x, this.getLowerYLine()), cancellationToken, intersectingNodes);
+        interleave(columnOverlap(this.getLeftXLine(), secondRectangle), y -> new LongNode(this.getLeftXLine(), y),
+                columnOverlap(this.getRightXLine(), secondRectangle), y -> new LongNode(this.getRightXLine(), y), cancellationToken, intersectingNodes);
+
+        IntersectionType intersectionType = intersectingNodes.isEmpty() ? IntersectionType.NON_INTERSECTING : IntersectionType.NODE;
+        return new LongIntersections(intersectionType, intersectingNodes);
+    }
+
+    /**
+     * Counts the intersecting integer nodes between this rectangle and the provided one in constant time.
+     *
+     * @param secondRectangle: The rectangle to compare against.
+     * @return Returns the number of nodes {@link #identifyIntersections(LongRectangle)} would return.
+     * @throws ArithmeticException if the count does not fit into a long.
+     */
+    public long countSharedBorderNodes(LongRectangle secondRectangle) {
+        return RelationshipCounter.countSharedBorderNodes(this.getLeftXLine(), this.getLowerYLine(), this.getRightXLine(), this.getUpperYLine(),
+                secondRectangle.getLeftXLine(), secondRectangle.getLowerYLine(), secondRectangle.getRightXLine(), secondRectangle.getUpperYLine());
+    }
+
+    /**
+     * Determines if all dimensions of this rectangle are contained within the provided rectangle.
+     *
+     * @param secondRectangle: The rectangle to compare against.
+     * @return Returned boolean will be true if this rectangle is fully contained by the provided rectangle.
+     */
+    public boolean isFullyContainedBy(LongRectangle secondRectangle) {
+        if (this.equals(secondRectangle)) {
+            return false;
+        }
+
+        return secondRectangle.getLeftXLine() < this.getLeftXLine()
+                && secondRectangle.getRightXLine() > this.getRightXLine()
+                && secondRectangle.getLowerYLine() < this.getLowerYLine()
+                && secondRectangle.getUpperYLine() > this.getUpperYLine();
+    }
+
+    /**
+     * Returns a list of adjacencies between this rectangle and the provided rectangle.
+     * Adjacencies are defined as the sharing of a common border.
+     *
+     * @param secondRectangle: The rectangle to compare against.
+     * @return Returns a list ({@link List<LongAdjacency>}) of adjacent borders and their properties.
+     */
+    public List<LongAdjacency> findAnyAdjacencyWith(LongRectangle secondRectangle) {
+        if (noIntersectionsExist(secondRectangle) || this.isFullyContainedBy(secondRectangle) || secondRectangle.isFullyContainedBy(this)) {
+            return new ArrayList<>();
+        }
+
+        //If both rectangles are the equivalent then proper adjacency exists on all sides.
+        if (this.equals(secondRectangle)) {
+            return Arrays.asList(new LongAdjacency(AdjacencyType.PROPER, AdjacencyAxis.X, this.lowerLeftCorner, this.upperLeftCorner),
+                    new LongAdjacency(AdjacencyType.PROPER, AdjacencyAxis.X, this.lowerRightCorner, this.upperRightCorner),
+                    new LongAdjacency(AdjacencyType.PROPER, AdjacencyAxis.Y, this.lowerLeftCorner, this.lowerRightCorner),
+                    new LongAdjacency(AdjacencyType.PROPER, AdjacencyAxis.Y, this.upperLeftCorner, this.upperRightCorner));
+        }
+
+        List<LongAdjacency> adjacencies = checkForXAdjacencies(secondRectangle);
+        adjacencies.addAll(checkForYAdjacencies(secondRectangle));
+        return adjacencies;
+    }
+
+    /**
+     * Computes the intersection, containment and adjacency relationship between this rectangle and the provided one in a single pass.
+     *
+     * @param secondRectangle: The rectangle to compare against.
+     * @return Returns a relationship code that can be read with {@link jehlenfeldt.assessments.rectangleoperations.resources.relationship.RelationshipDecoder}.
+     */
+    public long classifyRelationshipWith(LongRectangle secondRectangle) {
+        return RelationshipClassifier.classify(this, secondRectangle);
+    }
+
+    @Override
+    public boolean equals(Object secondRectangle) {
+        if (this == secondRectangle) {
+            return true;
+        }
+        return secondRectangle != null
+                && secondRectangle.getClass().equals(LongRectangle.class)
+                && this.upperLeftCorner.equals(((LongRectangle) secondRectangle).getUpperLeftCorner())
+                && this.lowerRightCorner.equals(((LongRectangle) secondRectangle).getLowerRightCorner());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * upperLeftCorner.hashCode() + lowerRightCorner.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "LongRectangle{" +
+                "upperLeftCorner=" + upperLeftCorner +
+                ", lowerRightCorner=" + lowerRightCorner +
+                '}';
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    //~~~~~~~~~~ Intersection Check Methods ~~~~~~~~~~//
+    /**
+     * Finds where a row of this rectangle's border, at the provided y-line and spanning its full width, meets the border of the provided rectangle.
+     *
+     * @return Returns the shared x ranges as ascending, disjoint inclusive [start, end] pairs.
+     */
+    private long[] rowOverlap(long yLine, LongRectangle secondRectangle) {
+        return lineOverlap(yLine, this.getLeftXLine(), this.getRightXLine(),
+                secondRectangle.getLowerYLine(), secondRectangle.getUpperYLine(), secondRectangle.getLeftXLine(), secondRectangle.getRightXLine());
+    }
+
+    /**
+     * Finds where a column of this rectangle's border, at the provided x-line and without its corners, meets the border of the provided rectangle.
+     *
+     * @return Returns the shared y ranges as ascending, disjoint inclusive [start, end] pairs.
+     */
+    private long[] columnOverlap(long xLine, LongRectangle secondRectangle) {
+        if (this.getLowerYLine() + 1 > this.getUpperYLine() - 1) {
+            return NO_RANGES;
+        }
+        return lineOverlap(xLine, this.getLowerYLine() + 1, this.getUpperYLine() - 1,
+                secondRectangle.getLeftXLine(), secondRectangle.getRightXLine(), secondRectangle.getLowerYLine(), secondRectangle.getUpperYLine());
+    }
+
+    /**
+     * Intersects an axis aligned segment with the border of a rectangle, both described along the segment's axis.
+     * A segment lying on one of the parallel border lines shares a range with it, while a segment crossing between them
+     * can only meet the two perpendicular border lines.
+     *
+     * @param line: The fixed coordinate of the segment.
+     * @param start: The first coordinate along the segment.
+     * @param end: The last coordinate along the segment.
+     * @param lesserParallelLine: The lesser border line of the rectangle parallel to the segment.
+     * @param greaterParallelLine: The greater border line of the rectangle parallel to the segment.
+     * @param lesserPerpendicularLine: The lesser border line of the rectangle perpendicular to the segment.
+     * @param greaterPerpendicularLine: The greater border line of the rectangle perpendicular to the segment.
+     * @return Returns the shared ranges as ascending, disjoint inclusive [start, end] pairs.
+     */
+    private static long[] lineOverlap(long line, long start, long end, long lesserParallelLine, long greaterParallelLine,
+                                      long lesserPerpendicularLine, long greaterPerpendicularLine) {
+        if (line == lesserParallelLine || line == greaterParallelLine) {
+            long overlapStart = Math.max(start, lesserPerpendicularLine);
+            long overlapEnd = Math.min(end, greaterPerpendicularLine);
+            return overlapStart <= overlapEnd ? new long[]{overlapStart, overlapEnd} : NO_RANGES;
+        }
+
+        if (line < lesserParallelLine || line > greaterParallelLine) {
+            return NO_RANGES;
+        }
+
+        boolean lesserInside = lesserPerpendicularLine >= start && lesserPerpendicularLine <= end;
+        boolean greaterInside = greaterPerpendicularLine >= start && greaterPerpendicularLine <= end;
+        if (lesserInside && greaterInside) {
+            return new long[]{lesserPerpendicularLine, lesserPerpendicularLine, greaterPerpendicularLine, greaterPerpendicularLine};
+        }
+        if (lesserInside || greaterInside) {
+            long point = lesserInside ? lesserPerpendicularLine : greaterPerpendicularLine;
+            return new long[]{point, point};
+        }
+        return NO_RANGES;
+    }
+
+    /**
+     * Walks the union of two sets of ranges in ascending order and, at every coordinate, adds the node of the first set
+     * before the node of the second. This reproduces the order in which {@link Rectangle} lists the nodes of two parallel
+     * border lines.
+     */
+    private static void interleave(long[] firstRanges, LongFunction<LongNode> firstNode, long[] secondRanges, LongFunction<LongNode> secondNode,
+                                   CancellationToken cancellationToken, List<LongNode> nodes) {
+        int firstIndex = 0;
+        int secondIndex = 0;
+        long coordinate = Math.min(firstRanges.length > 0 ? firstRanges[0] : Long.MAX_VALUE, secondRanges.length > 0 ? secondRanges[0] : Long.MAX_VALUE);
+        long visited = 0;
+
+        while (true) {
+            if (firstIndex < firstRanges.length && firstRanges[firstIndex + 1] < coordinate) {
+                firstIndex += 2;
+                continue;
+            }
+            if (secondIndex < secondRanges.length && secondRanges[secondIndex + 1] < coordinate) {
+                secondIndex += 2;
+                continue;
+            }
+            if (firstIndex >= firstRanges.length && secondIndex >= secondRanges.length) {
+                return;
+            }
+
+            boolean inFirst = firstIndex < firstRanges.length && firstRanges[firstIndex] <= coordinate;
+            boolean inSecond = secondIndex < secondRanges.length && secondRanges[secondIndex] <= coordinate;
+            if (!inFirst && !inSecond) {
+                coordinate = Math.min(firstIndex < firstRanges.length ? firstRanges[firstIndex] : Long.MAX_VALUE,
+                        secondIndex < secondRanges.length ? secondRanges[secondIndex] : Long.MAX_VALUE);
+                continue;
+            }
+
+            if ((++visited & CANCELLATION_CHECK_MASK) == 0) {
+                cancellationToken.throwIfCancelled();
+            }
+            if (inFirst) {
+                nodes.add(firstNode.apply(coordinate));
+            }
+            if (inSecond) {
+                nodes.add(secondNode.apply(coordinate));
+            }
+            if (coordinate == Long.MAX_VALUE) {
+                return;
+            }
+            coordinate++;
+        }
+    }
+
+    private static int checkListSize(long nodeCount) {
+        if (nodeCount > MAXIMUM_LIST_SIZE) {
+            throw new IllegalStateException(nodeCount + " nodes are too many to list. Count them with getIntegerNodeCount or countSharedBorderNodes instead.");
+        }
+        return (int) nodeCount;
+    }
+
+    //~~~~~~~~~~ Adjacency Check Methods ~~~~~~~~~~//
+    /**
+     * Compares each rectangle's x-lines to determine if any adjacencies exist on the x-axis, mirroring {@link Rectangle}.
+     *
+     * @param secondRectangle: The rectangle to compare against.
+     * @return Returns a list of {@link LongAdjacency} objects for each x-axis adjacency detected.
+     */
+    private List<LongAdjacency> checkForXAdjacencies(LongRectangle secondRectangle) {
+        List<LongAdjacency> adjacencies = new ArrayList<>();
+
+        if (this.getUpperYLine() <= secondRectangle.getLowerYLine() || this.getLowerYLine() >= secondRectangle.getUpperYLine()) {
+            return adjacencies;
+        }
+
+        if (this.getLeftXLine() == secondRectangle.getLeftXLine()) {
+            adjacencies.add(determineXLineAdjacencyParameters(secondRectangle, this.getLeftXLine()));
+            if (this.getRightXLine() == secondRectangle.getRightXLine()) {
+                adjacencies.add(determineXLineAdjacencyParameters(secondRectangle, this.getRightXLine()));
+            }
+        } else if (this.getRightXLine() == secondRectangle.getRightXLine()) {
+            adjacencies.add(determineXLineAdjacencyParameters(secondRectangle, this.getRightXLine()));
+        } else if (this.getLeftXLine() == secondRectangle.getRightXLine()) {
+            adjacencies.add(determineXLineAdjacencyParameters(secondRectangle, this.getLeftXLine()));
+        } else if (this.getRightXLine() == secondRectangle.getLeftXLine()) {
+            adjacencies.add(determineXLineAdjacencyParameters(secondRectangle, this.getRightXLine()));
+        }
+
+        return adjacencies;
+    }
+
+    /**
+     * Compares each rectangle's y-lines to determine if any adjacencies exist on the y-axis, mirroring {@link Rectangle}.
+     *
+     * @param secondRectangle: The rectangle to compare against.
+     * @return Returns a list of {@link LongAdjacency} objects for each y-axis adjacency detected.
+     */
+    private List<LongAdjacency> checkForYAdjacencies(LongRectangle secondRectangle) {
+        List<LongAdjacency> adjacencies = new ArrayList<>();
+
+        if (this.getRightXLine() <= secondRectangle.getLeftXLine() || this.getLeftXLine() >= secondRectangle.getRightXLine()) {
+            return adjacencies;
+        }
+
+        if (this.getUpperYLine() == secondRectangle.getUpperYLine()) {
+            adjacencies.add(determineYLineAdjacencyParameters(secondRectangle, this.getUpperYLine()));
+            if (this.getLowerYLine() == secondRectangle.getLowerYLine()) {
+                adjacencies.add(determineYLineAdjacencyParameters(secondRectangle, this.getLowerYLine()));
+            }
+        } else if (this.getLowerYLine() == secondRectangle.getLowerYLine()) {
+            adjacencies.add(determineYLineAdjacencyParameters(secondRectangle, this.getLowerYLine()));
+        } else if (this.getUpperYLine() == secondRectangle.getLowerYLine()) {
+            adjacencies.add(determineYLineAdjacencyParameters(secondRectangle, this.getUpperYLine()));
+        } else if (this.getLowerYLine() == secondRectangle.getUpperYLine()) {
+            adjacencies.add(determineYLineAdjacencyParameters(secondRectangle, this.getLowerYLine()));
+        }
+
+        return adjacencies;
+    }
+
+    private LongAdjacency determineXLineAdjacencyParameters(LongRectangle secondRectangle, long xCoordinate) {
+        AdjacencyType adjacencyType = AdjacencyType.determine(this.getUpperYLine(), this.getLowerYLine(), secondRectangle.getUpperYLine(), secondRectangle.getLowerYLine());
+
+        long[] sharedPoints = {this.getUpperYLine(), secondRectangle.getUpperYLine(), this.getLowerYLine(), secondRectangle.getLowerYLine()};
+        Arrays.sort(sharedPoints);
+        return new LongAdjacency(adjacencyType, AdjacencyAxis.X, new LongNode(xCoordinate, sharedPoints[1]), new LongNode(xCoordinate, sharedPoints[2]));
+    }
+
+    private LongAdjacency determineYLineAdjacencyParameters(LongRectangle secondRectangle, long yCoordinate) {
+        AdjacencyType adjacencyType = AdjacencyType.determine(this.getRightXLine(), this.getLeftXLine(), secondRectangle.getRightXLine(), secondRectangle.getLeftXLine());
+
+        long[] sharedPoints = {this.getRightXLine(), secondRectangle.getRightXLine(), this.getLeftXLine(), secondRectangle.getLeftXLine()};
+        Arrays.sort(sharedPoints);
+        return new LongAdjacency(adjacencyType, AdjacencyAxis.Y, new LongNode(sharedPoints[1], yCoordinate), new LongNode(sharedPoints[2], yCoordinate));
+    }
+
+    /**
+     * Checking if intersections are possible between the two rectangles on either the x or y-axis.
+     * @param secondRectangle: The rectangle to compare against.
+     * @return Returns true if no intersections exist
+     */
+    private boolean noIntersectionsExist(LongRectangle secondRectangle) {
+        return this.getUpperYLine() < secondRectangle.getLowerYLine() || secondRectangle.getUpperYLine() < this.getLowerYLine()
+                || this.getRightXLine() < secondRectangle.getLeftXLine() || secondRectangle.getRightXLine() < this.getLeftXLine();
+    }
+}
@@ -3,17 +3,29 @@ package jehlenfeldt.assessments.rectangleoperations.resources;
 import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.Adjacency;
 import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyAxis;
 import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyType;
+import jehlenfeldt.assessments.rectangleoperations.resources.counting.RelationshipCounter;
 import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.OperationCancelledException;
 import jehlenfeldt.assessments.rectangleoperations.resources.intersection.IntersectionType;
 import jehlenfeldt.assessments.rectangleoperations.resources.intersection.Intersections;
+import jehlenfeldt.assessments.rectangleoperations.resources.relationship.RelationshipClassifier;
+import jehlenfeldt.assessments.rectangleoperations.resources.relationship.RelationshipDecoder;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.CancellationToken;
 import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+import jehlenfeldt.assessments.rectangleoperations.resources.tracing.AdjacencyEvent;
+import jehlenfeldt.assessments.rectangleoperations.resources.tracing.ContainmentEvent;
+import jehlenfeldt.assessments.rectangleoperations.resources.tracing.ExitPath;
+import jehlenfeldt.assessments.rectangleoperations.resources.tracing.IdentifyIntersectionsEvent;
+import jehlenfeldt.assessments.rectangleoperations.resources.tracing.IntegerNodesEvent;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 public class Rectangle {
+    private static final int CANCELLATION_CHECK_MASK = 1023;
 
     private final Node upperLeftCorner;
     private final Node lowerLeftCorner;
@@ -34,6 +46,16 @@ public class Rectangle {
 
     }
 
+    /**
+     * Builds a rectangle from lines that are already known to be valid, such as those derived from two valid rectangles.
+     */
+    private Rectangle(int leftXLine, int lowerYLine, int rightXLine, int upperYLine) {
+        this.upperLeftCorner = new Node(leftXLine, upperYLine);
+        this.lowerRightCorner = new Node(rightXLine, lowerYLine);
+        this.lowerLeftCorner = calculateLowerLeftCorner();
+        this.upperRightCorner = calculateUpperRightCorner();
+    }
+
     private void validateInput(Node upperLeftCorner, Node lowerRightCorner) throws InvalidDimensionsException {
         if (upperLeftCorner.getXCoordinate() >= lowerRightCorner.getXCoordinate()
                 || lowerRightCorner.getYCoordinate() >= upperLeftCorner.getYCoordinate()) {
@@ -96,20 +118,41 @@ public class Rectangle {
      * @return Returns a list of all integer {@link Node}s defined by this rectangle.
      */
     public List<Node> getListOfIntegerNodes() {
+        return getListOfIntegerNodes(CancellationToken.NONE);
+    }
+
+    /**
+     * Returns a list of all integer nodes defined by the borders of this rectangle.
+     * The provided token is polled while the nodes are enumerated so that large rectangles can be abandoned part way through.
+     *
+     * @param cancellationToken: The token to poll for cancellation.
+     * @return Returns a list of all integer {@link Node}s defined by this rectangle.
+     * @throws OperationCancelledException if the token is cancelled before the enumeration finishes.
+     */
+    public List<Node> getListOfIntegerNodes(CancellationToken cancellationToken) throws OperationCancelledException {
+        IntegerNodesEvent event = new IntegerNodesEvent();
+        event.begin();
         List<Node> nodesList = new ArrayList<>();
 
         //Creating top and bottom nodes
         for (int x = this.getLeftXLine(); x <= this.getRightXLine(); x++) {
+            if ((x & CANCELLATION_CHECK_MASK) == 0) {
+                cancellationToken.throwIfCancelled();
+            }
             nodesList.add(new Node(x, this.getUpperYLine()));
             nodesList.add(new Node(x, this.getLowerYLine()));
         }
 
         //Creating left and right nodes
         for (int y = this.getLowerYLine() + 1; y < this.getUpperYLine(); y++) {
+            if ((y & CANCELLATION_CHECK_MASK) == 0) {
+                cancellationToken.throwIfCancelled();
+            }
             nodesList.add(new Node(this.getLeftXLine(), y));
             nodesList.add(new Node(this.getRightXLine(), y));
         }
 
+        event.complete(this, ExitPath.FULL_COMPUTATION, nodesList.size());
         return nodesList;
     }
 
@@ -121,15 +164,36 @@ public class Rectangle {
      * @return Returns an {@link Intersections} object containing information about any intersections that may have been found.
      */
     public Intersections identifyIntersections(Rectangle secondRectangle) {
-        if (this.equals(secondRectangle)) {
-            return new Intersections(IntersectionType.ALL_POINTS_INTERSECT, this.getListOfIntegerNodes());
-        }
+        return identifyIntersections(secondRectangle, CancellationToken.NONE);
+    }
 
-        if (noIntersectionsExist(secondRectangle)) {
-            return new Intersections(IntersectionType.NON_INTERSECTING, new ArrayList<>());
+    /**
+     * Identifies any intersections between the lines that make up the provided rectangle and this one.
+     * The provided token is polled throughout the node enumeration and comparison.
+     *
+     * @param secondRectangle: The rectangle to compare against.
+     * @param cancellationToken: The token to poll for cancellation.
+     * @return Returns an {@link Intersections} object containing information about any intersections that may have been found.
+     * @throws OperationCancelledException if the token is cancelled before the intersections are identified.
+     */
+    public Intersections identifyIntersections(Rectangle secondRectangle, CancellationToken cancellationToken) throws OperationCancelledException {
+        IdentifyIntersectionsEvent event = new IdentifyIntersectionsEvent();
+        event.begin();
+        Intersections intersections;
+        ExitPath exitPath;
+        if (this.equals(secondRectangle)) {
+            intersections = new Intersections(IntersectionType.ALL_POINTS_INTERSECT, this.getListOfIntegerNodes(cancellationToken));
+            exitPath = ExitPath.IDENTICAL;
+        } else if (noIntersectionsExist(secondRectangle)) {
+            intersections = new Intersections(IntersectionType.NON_INTERSECTING, new ArrayList<>());
+            exitPath = ExitPath.DISJOINT_BOUNDS;
+        } else {
+            intersections = calculateIntegerOnlyIntersections(secondRectangle, cancellationToken);
+            exitPath = ExitPath.FULL_COMPUTATION;
         }
 
-        return calculateIntegerOnlyIntersections(secondRectangle);
+        event.complete(this, secondRectangle, exitPath, intersections.getIntersectionNodes().size());
+        return intersections;
     }
 
     /**
@@ -139,14 +203,12 @@ public class Rectangle {
      * @return Returned boolean will be true if this rectangle is fully contained by the provided rectangle.
      */
     public boolean isFullyContainedBy(Rectangle secondRectangle) {
-        if (this.equals(secondRectangle)) {
-            return false;
-        }
-
-        return secondRectangle.getLeftXLine() < this.getLeftXLine()
-                && secondRectangle.getRightXLine() > this.getRightXLine()
-                && secondRectangle.getLowerYLine() < this.getLowerYLine()
-                && secondRectangle.getUpperYLine() > this.getUpperYLine();
+        ContainmentEvent event = new ContainmentEvent();
+        event.begin();
+        boolean identical = this.equals(secondRectangle);
+        boolean contained = !identical && liesStrictlyInside(secondRectangle);
+        event.complete(this, secondRectangle, identical ? ExitPath.IDENTICAL : ExitPath.FULL_COMPUTATION, contained ? 1 : 0);
+        return contained;
     }
 
     /**
@@ -157,31 +219,176 @@ public class Rectangle {
      * @return Returns a list ({@link List<Adjacency>}) of adjacent borders and their properties.
      */
     public List<Adjacency> findAnyAdjacencyWith(Rectangle secondRectangle) {
-        if (noIntersectionsExist(secondRectangle) || this.isFullyContainedBy(secondRectangle) || secondRectangle.isFullyContainedBy(this)) {
-            return new ArrayList<>();
-        }
-
-        //If both rectangles are the equivalent then proper adjacency exists on all sides.
-        if (this.equals(secondRectangle)) {
-            return Arrays.asList(new Adjacency(AdjacencyType.PROPER, AdjacencyAxis.X, this.lowerLeftCorner, this.upperLeftCorner),
+        AdjacencyEvent event = new AdjacencyEvent();
+        event.begin();
+        List<Adjacency> adjacencies;
+        ExitPath exitPath;
+        if (noIntersectionsExist(secondRectangle)) {
+            adjacencies = new ArrayList<>();
+            exitPath = ExitPath.DISJOINT_BOUNDS;
+        } else if (this.equals(secondRectangle)) {
+            //If both rectangles are the equivalent then proper adjacency exists on all sides.
+            adjacencies = Arrays.asList(new Adjacency(AdjacencyType.PROPER, AdjacencyAxis.X, this.lowerLeftCorner, this.upperLeftCorner),
                     new Adjacency(AdjacencyType.PROPER, AdjacencyAxis.X, this.lowerRightCorner, this.upperRightCorner),
                     new Adjacency(AdjacencyType.PROPER, AdjacencyAxis.Y, this.lowerLeftCorner, this.lowerRightCorner),
                     new Adjacency(AdjacencyType.PROPER, AdjacencyAxis.Y, this.upperLeftCorner, this.upperRightCorner));
+            exitPath = ExitPath.IDENTICAL;
+        } else if (this.liesStrictlyInside(secondRectangle) || secondRectangle.liesStrictlyInside(this)) {
+            adjacencies = new ArrayList<>();
+            exitPath = ExitPath.CONTAINED;
+        } else {
+            adjacencies = checkForXAdjacencies(secondRectangle);
+            adjacencies.addAll(checkForYAdjacencies(secondRectangle));
+            exitPath = ExitPath.FULL_COMPUTATION;
         }
 
-        List<Adjacency> adjacencies = checkForXAdjacencies(secondRectangle);
-        adjacencies.addAll(checkForYAdjacencies(secondRectangle));
+        event.complete(this, secondRectangle, exitPath, adjacencies.size());
         return adjacencies;
     }
 
+    /**
+     * Counts the integer nodes on the border of this rectangle without creating them.
+     *
+     * @return Returns the number of nodes {@link #getListOfIntegerNodes()} would return.
+     */
+    public long getIntegerNodeCount() {
+        return 2L * ((long) this.getRightXLine() - this.getLeftXLine()) + 2L * ((long) this.getUpperYLine() - this.getLowerYLine());
+    }
+
+    /**
+     * Counts the intersecting integer nodes between this rectangle and the provided one in constant time.
+     *
+     * @param secondRectangle: The rectangle to compare against.
+     * @return Returns the number of nodes {@link #identifyIntersections(Rectangle)} would return.
+     */
+    public long countSharedBorderNodes(Rectangle secondRectangle) {
+        return RelationshipCounter.countSharedBorderNodes(this.getLeftXLine(), this.getLowerYLine(), this.getRightXLine(), this.getUpperYLine(),
+                secondRectangle.getLeftXLine(), secondRectangle.getLowerYLine(), secondRectangle.getRightXLine(), secondRectangle.getUpperYLine());
+    }
+
+    /**
+     * Counts the adjacencies of the provided type between this rectangle and the provided one without creating {@link Adjacency} objects.
+     *
+     * @param secondRectangle: The rectangle to compare against.
+     * @param adjacencyType: The type of adjacency to count.
+     * @return Returns the number of matching adjacencies {@link #findAnyAdjacencyWith(Rectangle)} would return.
+     */
+    public int countAdjacenciesWith(Rectangle secondRectangle, AdjacencyType adjacencyType) {
+        return RelationshipDecoder.countAdjacencies(classifyRelationshipWith(secondRectangle), adjacencyType);
+    }
+
+    /**
+     * @return Returns the area enclosed by this rectangle.
+     */
+    public long getArea() {
+        return ((long) this.getRightXLine() - this.getLeftXLine()) * ((long) this.getUpperYLine() - this.getLowerYLine());
+    }
+
+    /**
+     * Determines the region covered by both this rectangle and the provided one in constant time.
+     * Rectangles that only touch along a border or at a corner share no area and have no overlap region.
+     *
+     * @param secondRectangle: The rectangle to compare against.
+     * @return Returns the overlapping rectangle, or an empty {@link Optional} if the overlap has no area.
+     */
+    public Optional<Rectangle> findOverlapRegionWith(Rectangle secondRectangle) {
+        if (noIntersectionsExist(secondRectangle)) {
+            return Optional.empty();
+        }
+
+        int leftXLine = Math.max(this.getLeftXLine(), secondRectangle.getLeftXLine());
+        int rightXLine = Math.min(this.getRightXLine(), secondRectangle.getRightXLine());
+        int lowerYLine = Math.max(this.getLowerYLine(), secondRectangle.getLowerYLine());
+        int upperYLine = Math.min(this.getUpperYLine(), secondRectangle.getUpperYLine());
+        if (leftXLine == rightXLine || lowerYLine == upperYLine) {
+            return Optional.empty();
+        }
+        return Optional.of(new Rectangle(leftXLine, lowerYLine, rightXLine, upperYLine));
+    }
+
+    /**
+     * Calculates the area covered by both this rectangle and the provided one without creating the overlap region.
+     *
+     * @param secondRectangle: The rectangle to compare against.
+     * @return Returns the area of the overlap region, or zero if there is none.
+     */
+    public long overlapAreaWith(Rectangle secondRectangle) {
+        long width = (long) Math.min(this.getRightXLine(), secondRectangle.getRightXLine()) - Math.max(this.getLeftXLine(), secondRectangle.getLeftXLine());
+        long height = (long) Math.min(this.getUpperYLine(), secondRectangle.getUpperYLine()) - Math.max(this.getLowerYLine(), secondRectangle.getLowerYLine());
+        return width > 0 && height > 0 ? width * height : 0L;
+    }
+
+    /**
+     * Computes the intersection, containment and adjacency relationship between this rectangle and the provided one in a single pass.
+     *
+     * @param secondRectangle: The rectangle to compare against.
+     * @return Returns a relationship code that can be read with {@link RelationshipDecoder}.
+     */
+    public long classifyRelationshipWith(Rectangle secondRectangle) {
+        return RelationshipClassifier.classify(this, secondRectangle);
+    }
+
+    /**
+     * Calculates the squared Euclidean length of the gap between this rectangle and the provided one.
+     * Rectangles that share at least one point have a distance of zero. The result is exact for all valid rectangles.
+     *
+     * @param secondRectangle: The rectangle to measure to.
+     * @return Returns the squared distance between the closest points of the two rectangles.
+     */
+    public long squaredDistanceTo(Rectangle secondRectangle) {
+        long xGap = Math.max(0L, Math.max((long) secondRectangle.getLeftXLine() - this.getRightXLine(), (long) this.getLeftXLine() - secondRectangle.getRightXLine()));
+        long yGap = Math.max(0L, Math.max((long) secondRectangle.getLowerYLine() - this.getUpperYLine(), (long) this.getLowerYLine() - secondRectangle.getUpperYLine()));
+        return xGap * xGap + yGap * yGap;
+    }
+
+    /**
+     * @param secondRectangle: The rectangle to measure to.
+     * @return Returns the Euclidean distance between the closest points of the two rectangles.
+     */
+    public double distanceTo(Rectangle secondRectangle) {
+        return Math.sqrt(squaredDistanceTo(secondRectangle));
+    }
+
+    /**
+     * Calculates the squared Euclidean distance from the provided node to the closest point of this rectangle.
+     * Nodes on the border or inside the rectangle have a distance of zero.
+     *
+     * @param node: The node to measure to.
+     * @return Returns the squared distance between the node and this rectangle.
+     * @throws ArithmeticException if the node is so far away that the squared distance does not fit into a long.
+     */
+    public long squaredDistanceTo(Node node) {
+        long xGap = Math.max(0L, Math.max((long) node.getXCoordinate() - this.getRightXLine(), (long) this.getLeftXLine() - node.getXCoordinate()));
+        long yGap = Math.max(0L, Math.max((long) node.getYCoordinate() - this.getUpperYLine(), (long) this.getLowerYLine() - node.getYCoordinate()));
+        return Math.addExact(Math.multiplyExact(xGap, xGap), Math.multiplyExact(yGap, yGap));
+    }
+
+    /**
+     * @param node: The node to measure to.
+     * @return Returns the Euclidean distance between the node and the closest point of this rectangle.
+     */
+    public double distanceTo(Node node) {
+        long xGap = Math.max(0L, Math.max((long) node.getXCoordinate() - this.getRightXLine(), (long) this.getLeftXLine() - node.getXCoordinate()));
+        long yGap = Math.max(0L, Math.max((long) node.getYCoordinate() - this.getUpperYLine(), (long) this.getLowerYLine() - node.getYCoordinate()));
+        return Math.hypot(xGap, yGap);
+    }
+
     @Override
     public boolean equals(Object secondRectangle) {
+        if (this == secondRectangle) {
+            return true;
+        }
         return  secondRectangle != null
                 && secondRectangle.getClass().equals(Rectangle.class)
                 && this.upperLeftCorner.equals(((Rectangle) secondRectangle).upperLeftCorner)
                 && this.lowerRightCorner.equals(((Rectangle) secondRectangle).lowerRightCorner);
     }
 
+    @Override
+    public int hashCode() {
+        return 31 * this.upperLeftCorner.hashCode() + this.lowerRightCorner.hashCode();
+    }
+
 
     //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
     //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
@@ -200,14 +407,18 @@ public class Rectangle {
      * This method calculates if there are any intersecting lines between this rectangle and the provided one.
      *
      * @param secondRectangle: The rectangle to compare against.
+     * @param cancellationToken: The token polled before each node is compared.
      * @return Returns an {@link Intersections} object that contains details about any intersections that were found.
      */
-    private Intersections calculateIntegerOnlyIntersections(Rectangle secondRectangle) {
-        List<Node> secondRectangleNodes = secondRectangle.getListOfIntegerNodes();
+    private Intersections calculateIntegerOnlyIntersections(Rectangle secondRectangle, CancellationToken cancellationToken) {
+        List<Node> secondRectangleNodes = secondRectangle.getListOfIntegerNodes(cancellationToken);
 
         //Filtering the list of nodes in this rectangle to remove any that are not also present in the provided rectangle.
-        List<Node> intersectingNodes = this.getListOfIntegerNodes().stream()
-                .filter(secondRectangleNodes::contains)
+        List<Node> intersectingNodes = this.getListOfIntegerNodes(cancellationToken).stream()
+                .filter(node -> {
+                    cancellationToken.throwIfCancelled();
+                    return secondRectangleNodes.contains(node);
+                })
                 .collect(Collectors.toList());
 
         IntersectionType intersectionType = intersectingNodes.isEmpty() ? IntersectionType.NON_INTERSECTING : IntersectionType.NODE;
@@ -320,7 +531,7 @@ public class Rectangle {
      * @return Returns a fully built {@link Adjacency} based on the parameters provided.
      */
     private Adjacency determineXLineAdjacencyParameters(Rectangle secondRectangle, int xCoordinate) {
-        AdjacencyType adjacencyType = determineAdjacencyType(this.getUpperYLine(), this.getLowerYLine(), secondRectangle.getUpperYLine(), secondRectangle.getLowerYLine());
+        AdjacencyType adjacencyType = AdjacencyType.determine(this.getUpperYLine(), this.getLowerYLine(), secondRectangle.getUpperYLine(), secondRectangle.getLowerYLine());
 
         int[] sharedXAxisPoints = sortArray(new int[] {this.getUpperYLine(), secondRectangle.getUpperYLine(), this.getLowerYLine(), secondRectangle.getLowerYLine()});
         return new Adjacency(adjacencyType, AdjacencyAxis.X, new Node(xCoordinate, sharedXAxisPoints[1]), new Node(xCoordinate, sharedXAxisPoints[2]));
@@ -333,40 +544,13 @@ public class Rectangle {
      * @return Returns a fully built {@link Adjacency} based on the parameters provided.
      */
     private Adjacency determineYLineAdjacencyParameters(Rectangle secondRectangle, int yCoordinate) {
-        AdjacencyType adjacencyType = determineAdjacencyType(this.getRightXLine(), this.getLeftXLine(), secondRectangle.getRightXLine(), secondRectangle.getLeftXLine());
+        AdjacencyType adjacencyType = AdjacencyType.determine(this.getRightXLine(), this.getLeftXLine(), secondRectangle.getRightXLine(), secondRectangle.getLeftXLine());
 
         int[] sharedXAxisPoints = sortArray(new int[] {this.getRightXLine(), secondRectangle.getRightXLine(), this.getLeftXLine(), secondRectangle.getLeftXLine()});
         return new Adjacency(adjacencyType, AdjacencyAxis.Y, new Node(sharedXAxisPoints[1], yCoordinate), new Node(sharedXAxisPoints[2], yCoordinate));
     }
 
 
-    /**
-     * This method determines the correct {@link AdjacencyType} based on the provided lines.
-     *  PROPER: A line shares the same set of points as the other.
-     *  SUB_LINE: The points of one line are a subset of the points that make up a second line.
-     *  PARTIAL: The two lines share some points but also both contain points that the other does not.
-     *
-     *  All provided lines must either be on the x-axis or the y-axis. They cannot be mixed.
-     *
-     * @param primaryObjectGreaterLine: The line from the primary object with the largest coordinate value.
-     * @param primaryObjectLesserLine: The line from the primary object with the smallest coordinate value.
-     * @param secondaryObjectGreaterLine: The line from the secondary object with the largest coordinate value.
-     * @param secondaryObjectLesserLine: The line from the secondary object with the smallest coordinate value.
-     * @return The {@link AdjacencyType} calculated by the method.
-     */
-    private static AdjacencyType determineAdjacencyType(int primaryObjectGreaterLine, int primaryObjectLesserLine, int secondaryObjectGreaterLine, int secondaryObjectLesserLine) {
-        AdjacencyType adjacencyType;
-        if (primaryObjectGreaterLine == secondaryObjectGreaterLine && primaryObjectLesserLine == secondaryObjectLesserLine) {
-            adjacencyType = AdjacencyType.PROPER;
-        } else if (primaryObjectGreaterLine > secondaryObjectGreaterLine && primaryObjectLesserLine < secondaryObjectLesserLine
-                || primaryObjectGreaterLine < secondaryObjectGreaterLine && primaryObjectLesserLine > secondaryObjectLesserLine) {
-            adjacencyType = AdjacencyType.SUB_LINE;
-        } else {
-            adjacencyType = AdjacencyType.PARTIAL;
-        }
-        return adjacencyType;
-    }
-
     /**
      * Sorting the provided array of integers from smallest to largest.
      * @param array: The int array to be sorted.
@@ -388,6 +572,18 @@ public class Rectangle {
         return array;
     }
 
+    /**
+     * Checks every line of this rectangle lies strictly inside the provided rectangle, without recording a trace event.
+     * @param secondRectangle: The rectangle to compare against.
+     * @return Returns true if this rectangle is strictly inside the provided one.
+     */
+    private boolean liesStrictlyInside(Rectangle secondRectangle) {
+        return secondRectangle.getLeftXLine() < this.getLeftXLine()
+                && secondRectangle.getRightXLine() > this.getRightXLine()
+                && secondRectangle.getLowerYLine() < this.getLowerYLine()
+                && secondRectangle.getUpperYLine() > this.getUpperYLine();
+    }
+
     /**
      * Checking if intersections are possible between the two rectangles on either the x or y-axis.
      * @param secondRectangle: The rectangle to compare against.
@@ -52,4 +52,9 @@ public class Adjacency {
                 && this.startNode.equals(((Adjacency) obj).startNode)
                 && this.endNode.equals(((Adjacency) obj).endNode);
     }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * adjacencyType.hashCode() + adjacencyAxis.hashCode()) + startNode.hashCode()) + endNode.hashCode();
+    }
 }
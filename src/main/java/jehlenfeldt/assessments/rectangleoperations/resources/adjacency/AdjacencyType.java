@@ -3,5 +3,32 @@ package jehlenfeldt.assessments.rectangleoperations.resources.adjacency;
 public enum AdjacencyType {
     PROPER,
     SUB_LINE,
-    PARTIAL
+    PARTIAL;
+
+    /**
+     * This method determines the correct {@link AdjacencyType} based on the provided lines.
+     *  PROPER: A line shares the same set of points as the other.
+     *  SUB_LINE: The points of one line are a subset of the points that make up a second line.
+     *  PARTIAL: The two lines share some points but also both contain points that the other does not.
+     *
+     *  All provided lines must either be on the x-axis or the y-axis. They cannot be mixed.
+     *
+     * @param primaryObjectGreaterLine: The line from the primary object with the largest coordinate value.
+     * @param primaryObjectLesserLine: The line from the primary object with the smallest coordinate value.
+     * @param secondaryObjectGreaterLine: The line from the secondary object with the largest coordinate value.
+     * @param secondaryObjectLesserLine: The line from the secondary object with the smallest coordinate value.
+     * @return The {@link AdjacencyType} calculated by the method.
+     */
+    public static AdjacencyType determine(long primaryObjectGreaterLine, long primaryObjectLesserLine, long secondaryObjectGreaterLine, long secondaryObjectLesserLine) {
+        AdjacencyType adjacencyType;
+        if (primaryObjectGreaterLine == secondaryObjectGreaterLine && primaryObjectLesserLine == secondaryObjectLesserLine) {
+            adjacencyType = AdjacencyType.PROPER;
+        } else if (primaryObjectGreaterLine > secondaryObjectGreaterLine && primaryObjectLesserLine < secondaryObjectLesserLine
+                || primaryObjectGreaterLine < secondaryObjectGreaterLine && primaryObjectLesserLine > secondaryObjectLesserLine) {
+            adjacencyType = AdjacencyType.SUB_LINE;
+        } else {
+            adjacencyType = AdjacencyType.PARTIAL;
+        }
+        return adjacencyType;
+    }
 }
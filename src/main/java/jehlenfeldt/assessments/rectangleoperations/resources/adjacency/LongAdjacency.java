@@ -0,0 +1,63 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.adjacency;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.LongNode;
+
+/**
+ * An {@link Adjacency} between two {@link jehlenfeldt.assessments.rectangleoperations.resources.LongRectangle}s.
+ */
+public class LongAdjacency {
+    private final AdjacencyType adjacencyType;
+    private final AdjacencyAxis adjacencyAxis;
+    private final LongNode startNode;
+    private final LongNode endNode;
+
+    public LongAdjacency(AdjacencyType adjacencyType, AdjacencyAxis adjacencyAxis, LongNode startNode, LongNode endNode) {
+        this.adjacencyType = adjacencyType;
+        this.adjacencyAxis = adjacencyAxis;
+        this.startNode = startNode;
+        this.endNode = endNode;
+    }
+
+    public AdjacencyType getAdjacencyType() {
+        return adjacencyType;
+    }
+
+    public AdjacencyAxis getAdjacencyAxis() {
+        return adjacencyAxis;
+    }
+
+    public LongNode getStartNode() {
+        return startNode;
+    }
+
+    public LongNode getEndNode() {
+        return endNode;
+    }
+
+    @Override
+    public String toString() {
+        return "LongAdjacency{" +
+                "\n\tadjacencyType=" + adjacencyType +
+                "\n\tadjacencyAxis=" + adjacencyAxis +
+                "\n\tstartValue=" + startNode +
+                "\n\tendValue=" + endNode +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        return obj.getClass().equals(LongAdjacency.class)
+                && this.adjacencyType.equals(((LongAdjacency) obj).adjacencyType)
+                && this.adjacencyAxis.equals(((LongAdjacency) obj).adjacencyAxis)
+                && this.startNode.equals(((LongAdjacency) obj).startNode)
+                && this.endNode.equals(((LongAdjacency) obj).endNode);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * adjacencyType.hashCode() + adjacencyAxis.hashCode()) + startNode.hashCode()) + endNode.hashCode();
+    }
+}
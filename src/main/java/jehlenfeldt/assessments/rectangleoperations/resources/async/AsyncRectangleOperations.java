@@ -0,0 +1,222 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.async;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.Adjacency;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.Intersections;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.CancellationToken;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Non-blocking facade over the {@link Rectangle} operations.
+ *
+ * Operations run on a bounded pool and complete the returned {@link CompletableFuture}. Cancelling a future, or letting its
+ * deadline pass, cancels the {@link CancellationToken} handed to the operation, which stops the node enumeration of
+ * {@link Rectangle#identifyIntersections(Rectangle, CancellationToken)} part way through and frees the worker thread.
+ * Submissions that do not fit into the queue complete exceptionally with a {@link RejectedExecutionException}.
+ */
+public class AsyncRectangleOperations implements AutoCloseable {
+    private static final AtomicInteger POOL_SEQUENCE = new AtomicInteger();
+
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService deadlineScheduler;
+
+    /**
+     * @param threadCount: The number of threads running operations.
+     * @param queueCapacity: The number of submitted tasks that may wait for a free thread before new submissions are rejected.
+     */
+    public AsyncRectangleOperations(int threadCount, int queueCapacity) {
+        int poolNumber = POOL_SEQUENCE.incrementAndGet();
+        this.executor = new ThreadPoolExecutor(threadCount, threadCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreadFactory("rectangle-operations-" + poolNumber + "-"));
+        this.deadlineScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("rectangle-deadlines-" + poolNumber + "-"));
+    }
+
+    public CompletableFuture<Intersections> identifyIntersections(Rectangle firstRectangle, Rectangle secondRectangle) {
+        return identifyIntersections(firstRectangle, secondRectangle, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Identifies the intersections between the two rectangles asynchronously.
+     *
+     * @param timeout: The time after which the operation is cancelled and the future fails with a {@link TimeoutException}. Zero disables the deadline.
+     * @param unit: The unit of the timeout.
+     */
+    public CompletableFuture<Intersections> identifyIntersections(Rectangle firstRectangle, Rectangle secondRectangle, long timeout, TimeUnit unit) {
+        return submit(token -> firstRectangle.identifyIntersections(secondRectangle, token), timeout, unit);
+    }
+
+    public CompletableFuture<Boolean> isFullyContainedBy(Rectangle firstRectangle, Rectangle secondRectangle) {
+        return isFullyContainedBy(firstRectangle, secondRectangle, 0, TimeUnit.NANOSECONDS);
+    }
+
+    public CompletableFuture<Boolean> isFullyContainedBy(Rectangle firstRectangle, Rectangle secondRectangle, long timeout, TimeUnit unit) {
+        return submit(token -> firstRectangle.isFullyContainedBy(secondRectangle), timeout, unit);
+    }
+
+    public CompletableFuture<List<Adjacency>> findAnyAdjacencyWith(Rectangle firstRectangle, Rectangle secondRectangle) {
+        return findAnyAdjacencyWith(firstRectangle, secondRectangle, 0, TimeUnit.NANOSECONDS);
+    }
+
+    public CompletableFuture<List<Adjacency>> findAnyAdjacencyWith(Rectangle firstRectangle, Rectangle secondRectangle, long timeout, TimeUnit unit) {
+        return submit(token -> firstRectangle.findAnyAdjacencyWith(secondRectangle), timeout, unit);
+    }
+
+    /**
+     * Starts a new batch. Requests added to the batch are coalesced into a single task when the batch is submitted,
+     * which avoids paying the scheduling overhead for every small request.
+     */
+    public Batch newBatch() {
+        return new Batch();
+    }
+
+    /**
+     * Stops accepting new operations and cancels pending deadlines. Operations already running are allowed to finish.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        deadlineScheduler.shutdownNow();
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    private <T> CompletableFuture<T> submit(Function<CancellationToken, T> operation, long timeout, TimeUnit unit) {
+        PendingOperation<T> pendingOperation = new PendingOperation<>(operation);
+        pendingOperation.applyDeadline(timeout, unit);
+        execute(pendingOperation::run, pendingOperation.future);
+        return pendingOperation.future;
+    }
+
+    private void execute(Runnable task, CompletableFuture<?> future) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger threadSequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Ties an operation to its future and cancellation token. Completing the future in any way, whether by result,
+     * failure, cancellation or deadline, cancels the token so that the operation stops if it is still running.
+     */
+    private class PendingOperation<T> {
+        private final Function<CancellationToken, T> operation;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final CancellationToken cancellationToken = new CancellationToken();
+
+        private PendingOperation(Function<CancellationToken, T> operation) {
+            this.operation = operation;
+            future.whenComplete((result, failure) -> cancellationToken.cancel());
+        }
+
+        private void applyDeadline(long timeout, TimeUnit unit) {
+            if (timeout <= 0) {
+                return;
+            }
+            ScheduledFuture<?> deadline = deadlineScheduler.schedule(
+                    () -> future.completeExceptionally(new TimeoutException("Rectangle operation exceeded its deadline of " + timeout + " " + unit)),
+                    timeout, unit);
+            future.whenComplete((result, failure) -> deadline.cancel(false));
+        }
+
+        private void run() {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(operation.apply(cancellationToken));
+            } catch (Throwable failure) {
+                //A cancelled token means the future is already complete, so this has no effect in that case.
+                future.completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * A group of requests that is executed as one task. Every request keeps its own future, deadline and cancellation.
+     */
+    public class Batch {
+        private final List<PendingOperation<?>> pendingOperations = new ArrayList<>();
+        private boolean submitted;
+
+        public CompletableFuture<Intersections> identifyIntersections(Rectangle firstRectangle, Rectangle secondRectangle) {
+            return add(token -> firstRectangle.identifyIntersections(secondRectangle, token));
+        }
+
+        public CompletableFuture<Boolean> isFullyContainedBy(Rectangle firstRectangle, Rectangle secondRectangle) {
+            return add(token -> firstRectangle.isFullyContainedBy(secondRectangle));
+        }
+
+        public CompletableFuture<List<Adjacency>> findAnyAdjacencyWith(Rectangle firstRectangle, Rectangle secondRectangle) {
+            return add(token -> firstRectangle.findAnyAdjacencyWith(secondRectangle));
+        }
+
+        /**
+         * Submits every request of the batch as a single task.
+         *
+         * @param timeout: The deadline applied to every request of the batch. Zero disables the deadline.
+         * @param unit: The unit of the timeout.
+         */
+        public void submit(long timeout, TimeUnit unit) {
+            if (submitted) {
+                throw new IllegalStateException("A batch can only be submitted once.");
+            }
+            submitted = true;
+
+            List<PendingOperation<?>> batchOperations = new ArrayList<>(pendingOperations);
+            for (PendingOperation<?> pendingOperation : batchOperations) {
+                pendingOperation.applyDeadline(timeout, unit);
+            }
+
+            CompletableFuture<Void> batchFuture = new CompletableFuture<>();
+            batchFuture.whenComplete((result, failure) -> {
+                if (failure != null) {
+                    batchOperations.forEach(pendingOperation -> pendingOperation.future.completeExceptionally(failure));
+                }
+            });
+            execute(() -> {
+                batchOperations.forEach(PendingOperation::run);
+                batchFuture.complete(null);
+            }, batchFuture);
+        }
+
+        public void submit() {
+            submit(0, TimeUnit.NANOSECONDS);
+        }
+
+        private <T> CompletableFuture<T> add(Function<CancellationToken, T> operation) {
+            if (submitted) {
+                throw new IllegalStateException("Requests cannot be added to a batch after it has been submitted.");
+            }
+            PendingOperation<T> pendingOperation = new PendingOperation<>(operation);
+            pendingOperations.add(pendingOperation);
+            return pendingOperation.future;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.components;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.relationship.RelationshipClassifier;
+import jehlenfeldt.assessments.rectangleoperations.resources.store.RectangleStore;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Groups rectangles into components that are transitively connected under a {@link ConnectivityRule}.
+ *
+ * Candidate pairs come from a sweep over the left x-lines that is split across threads. Connected pairs are merged in a
+ * lock free union-find where roots are only ever linked to a root with a lower index, so every component ends up
+ * rooted at its lowest index and the labelling does not depend on thread scheduling.
+ */
+public final class ComponentLabeller {
+
+    private ComponentLabeller() {
+    }
+
+    /**
+     * @param store: The rectangles to group.
+     * @param connectivityRule: The relationships that connect two rectangles.
+     * @return Returns one component id per rectangle, indexed like the store. The id is the lowest index in the component.
+     */
+    public static int[] label(RectangleStore store, ConnectivityRule connectivityRule) {
+        int size = store.size();
+        AtomicIntegerArray parents = new AtomicIntegerArray(size);
+        for (int index = 0; index < size; index++) {
+            parents.set(index, index);
+        }
+
+        int[] sweepOrder = store.indexesSortedByLeftXLine();
+        IntStream.range(0, size).parallel().forEach(position -> connectFromPosition(store, sweepOrder, position, connectivityRule, parents));
+
+        int[] componentIds = new int[size];
+        IntStream.range(0, size).parallel().forEach(index -> componentIds[index] = findRoot(parents, index));
+        return componentIds;
+    }
+
+    /**
+     * @return Returns the number of distinct components in the provided labelling.
+     */
+    public static int countComponents(int[] componentIds) {
+        int count = 0;
+        for (int index = 0; index < componentIds.length; index++) {
+            count += componentIds[index] == index ? 1 : 0;
+        }
+        return count;
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    /**
+     * Unites the rectangle at the provided sweep position with every later rectangle it is connected to. Rectangles
+     * that do not share a point cannot intersect or be adjacent and are skipped before classifying.
+     */
+    private static void connectFromPosition(RectangleStore store, int[] sweepOrder, int position, ConnectivityRule connectivityRule,
+                                            AtomicIntegerArray parents) {
+        int current = sweepOrder[position];
+        int left = store.getLeftXLine(current);
+        int lower = store.getLowerYLine(current);
+        int right = store.getRightXLine(current);
+        int upper = store.getUpperYLine(current);
+
+        for (int candidatePosition = position + 1; candidatePosition < sweepOrder.length; candidatePosition++) {
+            int candidate = sweepOrder[candidatePosition];
+            int candidateLeft = store.getLeftXLine(candidate);
+            if (candidateLeft > right) {
+                break;
+            }
+            int candidateLower = store.getLowerYLine(candidate);
+            int candidateUpper = store.getUpperYLine(candidate);
+            if (candidateLower > upper || lower > candidateUpper) {
+                continue;
+            }
+
+            long relationshipCode = RelationshipClassifier.classify(left, lower, right, upper,
+                    candidateLeft, candidateLower, store.getRightXLine(candidate), candidateUpper);
+            if (connectivityRule.connects(relationshipCode)) {
+                union(parents, current, candidate);
+            }
+        }
+    }
+
+    private static void union(AtomicIntegerArray parents, int first, int second) {
+        while (true) {
+            int firstRoot = findRoot(parents, first);
+            int secondRoot = findRoot(parents, second);
+            if (firstRoot == secondRoot) {
+                return;
+            }
+
+            //Only a root may be relinked, so a failed exchange means another thread changed the tree and the roots are looked up again.
+            int higherRoot = Math.max(firstRoot, secondRoot);
+            if (parents.compareAndSet(higherRoot, higherRoot, Math.min(firstRoot, secondRoot))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Finds the root of the provided index while halving the path to it. A failed halving step is harmless and ignored.
+     */
+    private static int findRoot(AtomicIntegerArray parents, int index) {
+        int parent = parents.get(index);
+        while (parent != index) {
+            int grandparent = parents.get(parent);
+            parents.compareAndSet(index, parent, grandparent);
+            index = grandparent;
+            parent = parents.get(index);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,31 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.components;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.IntersectionType;
+import jehlenfeldt.assessments.rectangleoperations.resources.relationship.RelationshipDecoder;
+
+/**
+ * Decides which relationships connect two rectangles into the same component.
+ */
+public enum ConnectivityRule {
+    /**
+     * Rectangles are connected if {@link jehlenfeldt.assessments.rectangleoperations.resources.Rectangle#identifyIntersections} finds an intersection.
+     */
+    INTERSECTION,
+    /**
+     * Rectangles are connected if {@link jehlenfeldt.assessments.rectangleoperations.resources.Rectangle#findAnyAdjacencyWith} finds an adjacency.
+     */
+    ADJACENCY,
+    /**
+     * Rectangles are connected by either an intersection or an adjacency.
+     */
+    BOTH;
+
+    /**
+     * @param relationshipCode: The code produced by classifying the two rectangles.
+     * @return Returns true if the encoded relationship connects the rectangles under this rule.
+     */
+    public boolean connects(long relationshipCode) {
+        boolean intersecting = this != ADJACENCY && RelationshipDecoder.toIntersectionType(relationshipCode) != IntersectionType.NON_INTERSECTING;
+        return intersecting || (this != INTERSECTION && RelationshipDecoder.hasAnyAdjacency(relationshipCode));
+    }
+}
@@ -0,0 +1,78 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.containment;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+
+import java.util.Objects;
+
+/**
+ * The containment relationship between two rectangles, as determined by {@link Rectangle#isFullyContainedBy(Rectangle)}.
+ * The inner and outer rectangles are null when neither rectangle contains the other.
+ */
+public class Containment {
+    private final ContainmentType containmentType;
+    private final Rectangle innerRectangle;
+    private final Rectangle outerRectangle;
+
+    public Containment(ContainmentType containmentType, Rectangle innerRectangle, Rectangle outerRectangle) {
+        this.containmentType = containmentType;
+        this.innerRectangle = innerRectangle;
+        this.outerRectangle = outerRectangle;
+    }
+
+    /**
+     * @param firstRectangle: The primary rectangle.
+     * @param secondRectangle: The rectangle to compare against.
+     * @return Returns the containment relationship between the provided rectangles.
+     */
+    public static Containment between(Rectangle firstRectangle, Rectangle secondRectangle) {
+        if (firstRectangle.isFullyContainedBy(secondRectangle)) {
+            return new Containment(ContainmentType.FIRST_CONTAINED_BY_SECOND, firstRectangle, secondRectangle);
+        }
+        if (secondRectangle.isFullyContainedBy(firstRectangle)) {
+            return new Containment(ContainmentType.SECOND_CONTAINED_BY_FIRST, secondRectangle, firstRectangle);
+        }
+        return new Containment(ContainmentType.NONE, null, null);
+    }
+
+    public ContainmentType getContainmentType() {
+        return containmentType;
+    }
+
+    public Rectangle getInnerRectangle() {
+        return innerRectangle;
+    }
+
+    public Rectangle getOuterRectangle() {
+        return outerRectangle;
+    }
+
+    @Override
+    public String toString() {
+        return "Containment{" +
+                "containmentType=" + containmentType +
+                ", innerRectangle=" + describe(innerRectangle) +
+                ", outerRectangle=" + describe(outerRectangle) +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj != null
+                && obj.getClass().equals(Containment.class)
+                && this.containmentType.equals(((Containment) obj).containmentType)
+                && Objects.equals(this.innerRectangle, ((Containment) obj).innerRectangle)
+                && Objects.equals(this.outerRectangle, ((Containment) obj).outerRectangle);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * containmentType.hashCode() + Objects.hashCode(innerRectangle)) + Objects.hashCode(outerRectangle);
+    }
+
+    private static String describe(Rectangle rectangle) {
+        return rectangle == null ? "null" : rectangle.getUpperLeftCorner() + " to " + rectangle.getLowerRightCorner();
+    }
+}
@@ -0,0 +1,7 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.containment;
+
+public enum ContainmentType {
+    NONE,
+    FIRST_CONTAINED_BY_SECOND,
+    SECOND_CONTAINED_BY_FIRST
+}
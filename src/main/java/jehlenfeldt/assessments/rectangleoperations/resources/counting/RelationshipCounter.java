@@ -0,0 +1,207 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.counting;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyType;
+import jehlenfeldt.assessments.rectangleoperations.resources.relationship.RectangleSide;
+import jehlenfeldt.assessments.rectangleoperations.resources.relationship.RelationshipClassifier;
+import jehlenfeldt.assessments.rectangleoperations.resources.relationship.RelationshipDecoder;
+import jehlenfeldt.assessments.rectangleoperations.resources.store.LongRectangleStore;
+import jehlenfeldt.assessments.rectangleoperations.resources.store.RectangleStore;
+
+import java.util.stream.IntStream;
+
+/**
+ * Counts relationships without materializing {@link jehlenfeldt.assessments.rectangleoperations.resources.intersection.Intersections}
+ * or {@link jehlenfeldt.assessments.rectangleoperations.resources.adjacency.Adjacency} objects.
+ *
+ * The border of a rectangle, as enumerated by {@link jehlenfeldt.assessments.rectangleoperations.resources.Rectangle#getListOfIntegerNodes()},
+ * is split into four disjoint boxes of integer nodes: the full top and bottom rows and the left and right columns without
+ * their corners. The number of nodes two borders share is then the sum of the sixteen box overlaps, which takes constant time.
+ */
+public final class RelationshipCounter {
+    private static final int INTERSECTING_PAIRS = 0;
+    private static final int SHARED_BORDER_NODES = 1;
+    private static final int CONTAINMENT_PAIRS = 2;
+    private static final int FIRST_ADJACENCY_SLOT = 3;
+    private static final int SLOT_COUNT = FIRST_ADJACENCY_SLOT + AdjacencyType.values().length;
+    private static final RectangleSide[] SIDES = RectangleSide.values();
+
+    private RelationshipCounter() {
+    }
+
+    /**
+     * Counts the integer nodes shared by the borders of two rectangles given by their lines. This equals the number of nodes
+     * returned by {@link jehlenfeldt.assessments.rectangleoperations.resources.Rectangle#identifyIntersections}.
+     * Lines may be any long with the lesser line of each axis below the greater one.
+     *
+     * @return Returns the number of shared border nodes.
+     * @throws ArithmeticException if the count does not fit into a long, which only long coordinates can cause.
+     */
+    public static long countSharedBorderNodes(long firstLeft, long firstLower, long firstRight, long firstUpper,
+                                              long secondLeft, long secondLower, long secondRight, long secondUpper) {
+        long topRow = countAgainstBorder(firstLeft, firstRight, firstUpper, firstUpper, secondLeft, secondLower, secondRight, secondUpper);
+        long bottomRow = countAgainstBorder(firstLeft, firstRight, firstLower, firstLower, secondLeft, secondLower, secondRight, secondUpper);
+        long leftColumn = countAgainstBorder(firstLeft, firstLeft, firstLower + 1, firstUpper - 1, secondLeft, secondLower, secondRight, secondUpper);
+        long rightColumn = countAgainstBorder(firstRight, firstRight, firstLower + 1, firstUpper - 1, secondLeft, secondLower, secondRight, secondUpper);
+        return Math.addExact(Math.addExact(topRow, bottomRow), Math.addExact(leftColumn, rightColumn));
+    }
+
+    /**
+     * Counts the relationships between every unordered pair of rectangles in the store.
+     * Candidate pairs come from a sweep over the left x-lines. The sweep is split across threads, and each thread accumulates
+     * into a single primitive array, so no objects are created per pair.
+     *
+     * @param store: The rectangles to count.
+     * @return Returns the aggregated {@link RelationshipCounts}.
+     */
+    public static RelationshipCounts countRelationships(RectangleStore store) {
+        int[] sweepOrder = store.indexesSortedByLeftXLine();
+
+        long[] totals = IntStream.range(0, sweepOrder.length).parallel()
+                .collect(() -> new long[SLOT_COUNT],
+                        (accumulator, position) -> countFromPosition(store, sweepOrder, position, accumulator),
+                        RelationshipCounter::addExactlyInto);
+
+        return toCounts(totals);
+    }
+
+
+    /**
+     * Counts the relationships between every unordered pair of long coordinate rectangles in the store, in the same way
+     * as {@link #countRelationships(RectangleStore)}.
+     *
+     * @param store: The rectangles to count.
+     * @return Returns the aggregated {@link RelationshipCounts}.
+     * @throws ArithmeticException if a count does not fit into a long.
+     */
+    public static RelationshipCounts countRelationships(LongRectangleStore store) {
+        int[] sweepOrder = store.indexesSortedByLeftXLine();
+
+        long[] totals = IntStream.range(0, sweepOrder.length).parallel()
+                .collect(() -> new long[SLOT_COUNT],
+                        (accumulator, position) -> countFromPosition(store, sweepOrder, position, accumulator),
+                        RelationshipCounter::addExactlyInto);
+
+        return toCounts(totals);
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    /**
+     * Counts every pair formed by the rectangle at the provided sweep position and the rectangles after it whose left x-line
+     * does not lie beyond its right x-line. Pairs that do not share any point cannot have a relationship and are skipped.
+     */
+    private static void countFromPosition(RectangleStore store, int[] sweepOrder, int position, long[] accumulator) {
+        int current = sweepOrder[position];
+        int left = store.getLeftXLine(current);
+        int lower = store.getLowerYLine(current);
+        int right = store.getRightXLine(current);
+        int upper = store.getUpperYLine(current);
+
+        for (int candidatePosition = position + 1; candidatePosition < sweepOrder.length; candidatePosition++) {
+            int candidate = sweepOrder[candidatePosition];
+            int candidateLeft = store.getLeftXLine(candidate);
+            if (candidateLeft > right) {
+                break;
+            }
+            int candidateLower = store.getLowerYLine(candidate);
+            int candidateUpper = store.getUpperYLine(candidate);
+            if (candidateLower > upper || lower > candidateUpper) {
+                continue;
+            }
+            int candidateRight = store.getRightXLine(candidate);
+
+            accumulatePair(left, lower, right, upper, candidateLeft, candidateLower, candidateRight, candidateUpper, accumulator);
+        }
+    }
+
+    /**
+     * The long coordinate counterpart of {@link #countFromPosition(RectangleStore, int[], int, long[])}.
+     */
+    private static void countFromPosition(LongRectangleStore store, int[] sweepOrder, int position, long[] accumulator) {
+        int current = sweepOrder[position];
+        long left = store.getLeftXLine(current);
+        long lower = store.getLowerYLine(current);
+        long right = store.getRightXLine(current);
+        long upper = store.getUpperYLine(current);
+
+        for (int candidatePosition = position + 1; candidatePosition < sweepOrder.length; candidatePosition++) {
+            int candidate = sweepOrder[candidatePosition];
+            long candidateLeft = store.getLeftXLine(candidate);
+            if (candidateLeft > right) {
+                break;
+            }
+            long candidateLower = store.getLowerYLine(candidate);
+            long candidateUpper = store.getUpperYLine(candidate);
+            if (candidateLower > upper || lower > candidateUpper) {
+                continue;
+            }
+            long candidateRight = store.getRightXLine(candidate);
+
+            accumulatePair(left, lower, right, upper, candidateLeft, candidateLower, candidateRight, candidateUpper, accumulator);
+        }
+    }
+
+    private static void addExactlyInto(long[] target, long[] source) {
+        for (int slot = 0; slot < target.length; slot++) {
+            target[slot] = Math.addExact(target[slot], source[slot]);
+        }
+    }
+
+    /**
+     * Adds the relationships of one candidate pair to the accumulator. Both sweeps share this method, so int and long
+     * stores are counted identically. Shared border nodes are added exactly because long rectangles can share more nodes
+     * than a long holds.
+     */
+    private static void accumulatePair(long left, long lower, long right, long upper,
+                                       long candidateLeft, long candidateLower, long candidateRight, long candidateUpper, long[] accumulator) {
+        long relationshipCode = RelationshipClassifier.classify(left, lower, right, upper, candidateLeft, candidateLower, candidateRight, candidateUpper);
+        long sharedBorderNodes = countSharedBorderNodes(left, lower, right, upper, candidateLeft, candidateLower, candidateRight, candidateUpper);
+
+        accumulator[INTERSECTING_PAIRS] += sharedBorderNodes > 0 ? 1 : 0;
+        accumulator[SHARED_BORDER_NODES] = Math.addExact(accumulator[SHARED_BORDER_NODES], sharedBorderNodes);
+        accumulator[CONTAINMENT_PAIRS] += RelationshipDecoder.isFirstContainedBySecond(relationshipCode)
+                || RelationshipDecoder.isSecondContainedByFirst(relationshipCode) ? 1 : 0;
+        for (RectangleSide side : SIDES) {
+            AdjacencyType adjacencyType = RelationshipDecoder.getAdjacencyType(relationshipCode, side);
+            if (adjacencyType != null) {
+                accumulator[FIRST_ADJACENCY_SLOT + adjacencyType.ordinal()]++;
+            }
+        }
+    }
+
+    private static RelationshipCounts toCounts(long[] totals) {
+        long[] adjacenciesByType = new long[AdjacencyType.values().length];
+        System.arraycopy(totals, FIRST_ADJACENCY_SLOT, adjacenciesByType, 0, adjacenciesByType.length);
+        return new RelationshipCounts(totals[INTERSECTING_PAIRS], totals[SHARED_BORDER_NODES], totals[CONTAINMENT_PAIRS], adjacenciesByType);
+    }
+
+    /**
+     * Counts the nodes shared by one border box of the first rectangle and all four border boxes of the second.
+     */
+    private static long countAgainstBorder(long firstXStart, long firstXEnd, long firstYStart, long firstYEnd,
+                                           long secondLeft, long secondLower, long secondRight, long secondUpper) {
+        long topRow = countBoxOverlap(firstXStart, firstXEnd, firstYStart, firstYEnd, secondLeft, secondRight, secondUpper, secondUpper);
+        long bottomRow = countBoxOverlap(firstXStart, firstXEnd, firstYStart, firstYEnd, secondLeft, secondRight, secondLower, secondLower);
+        long leftColumn = countBoxOverlap(firstXStart, firstXEnd, firstYStart, firstYEnd, secondLeft, secondLeft, secondLower + 1, secondUpper - 1);
+        long rightColumn = countBoxOverlap(firstXStart, firstXEnd, firstYStart, firstYEnd, secondRight, secondRight, secondLower + 1, secondUpper - 1);
+        return Math.addExact(Math.addExact(topRow, bottomRow), Math.addExact(leftColumn, rightColumn));
+    }
+
+    /**
+     * Counts the integer nodes inside both boxes. Inclusive ranges whose start lies beyond their end are empty.
+     */
+    private static long countBoxOverlap(long firstXStart, long firstXEnd, long firstYStart, long firstYEnd,
+                                        long secondXStart, long secondXEnd, long secondYStart, long secondYEnd) {
+        long xStart = Math.max(firstXStart, secondXStart);
+        long xEnd = Math.min(firstXEnd, secondXEnd);
+        long yStart = Math.max(firstYStart, secondYStart);
+        long yEnd = Math.min(firstYEnd, secondYEnd);
+        if (xStart > xEnd || yStart > yEnd) {
+            return 0L;
+        }
+        return Math.multiplyExact(Math.addExact(Math.subtractExact(xEnd, xStart), 1L), Math.addExact(Math.subtractExact(yEnd, yStart), 1L));
+    }
+}
@@ -0,0 +1,60 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.counting;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyType;
+
+/**
+ * Aggregated relationship counts over every unordered pair of rectangles in a batch.
+ */
+public class RelationshipCounts {
+    private final long intersectingPairs;
+    private final long sharedBorderNodes;
+    private final long containmentPairs;
+    private final long[] adjacenciesByType;
+
+    public RelationshipCounts(long intersectingPairs, long sharedBorderNodes, long containmentPairs, long[] adjacenciesByType) {
+        this.intersectingPairs = intersectingPairs;
+        this.sharedBorderNodes = sharedBorderNodes;
+        this.containmentPairs = containmentPairs;
+        this.adjacenciesByType = adjacenciesByType.clone();
+    }
+
+    /**
+     * @return Returns the number of pairs whose borders share at least one integer node.
+     */
+    public long getIntersectingPairs() {
+        return intersectingPairs;
+    }
+
+    /**
+     * @return Returns the total number of integer nodes shared by the borders of each pair.
+     */
+    public long getSharedBorderNodes() {
+        return sharedBorderNodes;
+    }
+
+    /**
+     * @return Returns the number of pairs where one rectangle is fully contained by the other.
+     */
+    public long getContainmentPairs() {
+        return containmentPairs;
+    }
+
+    /**
+     * @return Returns the number of adjacent borders of the provided type, counted once per pair.
+     */
+    public long getAdjacencies(AdjacencyType adjacencyType) {
+        return adjacenciesByType[adjacencyType.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        return "RelationshipCounts{" +
+                "\n\tintersectingPairs=" + intersectingPairs +
+                "\n\tsharedBorderNodes=" + sharedBorderNodes +
+                "\n\tcontainmentPairs=" + containmentPairs +
+                "\n\tproperAdjacencies=" + getAdjacencies(AdjacencyType.PROPER) +
+                "\n\tsubLineAdjacencies=" + getAdjacencies(AdjacencyType.SUB_LINE) +
+                "\n\tpartialAdjacencies=" + getAdjacencies(AdjacencyType.PARTIAL) +
+                '}';
+    }
+}
@@ -0,0 +1,13 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.density;
+
+public enum CoverageMode {
+    /**
+     * A rectangle covers every cell that shares at least one point with its area, borders included.
+     */
+    INTERIOR,
+    /**
+     * A rectangle only covers cells containing at least one of the integer nodes returned by
+     * {@link jehlenfeldt.assessments.rectangleoperations.resources.Rectangle#getListOfIntegerNodes()}.
+     */
+    BORDER_ONLY
+}
@@ -0,0 +1,112 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.density;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A grid of coverage counts produced by {@link DensityRasterBuilder}.
+ * Cell (column, row) spans the x coordinates originX + column * cellSize up to originX + (column + 1) * cellSize - 1
+ * and the matching y coordinates, with row 0 holding the lowest y coordinates. Counts are stored row by row.
+ */
+public class DensityRaster {
+    private static final int HEADER_INTS = 5;
+    private static final int WRITE_BUFFER_BYTES = 1 << 16;
+
+    private final int originX;
+    private final int originY;
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[] counts;
+
+    public DensityRaster(int originX, int originY, int cellSize, int columns, int rows, int[] counts) {
+        this.originX = originX;
+        this.originY = originY;
+        this.cellSize = cellSize;
+        this.columns = columns;
+        this.rows = rows;
+        this.counts = counts;
+    }
+
+    public int getOriginX() {
+        return originX;
+    }
+
+    public int getOriginY() {
+        return originY;
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return Returns the number of rectangles covering the provided cell.
+     */
+    public int getCount(int column, int row) {
+        return counts[row * columns + column];
+    }
+
+    /**
+     * @return Returns a copy of all counts in row major order.
+     */
+    public int[] getCounts() {
+        return counts.clone();
+    }
+
+    /**
+     * Writes the raster as big-endian ints: originX, originY, cellSize, columns, rows followed by every count in row major order.
+     *
+     * @param channel: The channel to write to. It is not closed by this method.
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+        buffer.putInt(originX).putInt(originY).putInt(cellSize).putInt(columns).putInt(rows);
+
+        int index = 0;
+        while (index < counts.length) {
+            int batchSize = Math.min(buffer.remaining() / Integer.BYTES, counts.length - index);
+            buffer.asIntBuffer().put(counts, index, batchSize);
+            buffer.position(buffer.position() + batchSize * Integer.BYTES);
+            index += batchSize;
+            drain(buffer, channel);
+        }
+        drain(buffer, channel);
+    }
+
+    /**
+     * Writes the raster to the provided file, replacing any existing content. See {@link #writeTo(WritableByteChannel)} for the layout.
+     */
+    public void writeTo(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeTo(channel);
+        }
+    }
+
+    /**
+     * @return Returns the number of bytes written by {@link #writeTo(WritableByteChannel)}.
+     */
+    public long getSerializedSize() {
+        return (long) (HEADER_INTS + counts.length) * Integer.BYTES;
+    }
+
+    private static void drain(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,173 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.density;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+/**
+ * Builds {@link DensityRaster}s showing how many rectangles cover each cell of a grid.
+ *
+ * Every rectangle is added to a 2D difference array as a block of cells (or, for {@link CoverageMode#BORDER_ONLY}, a block
+ * minus its inner block) in constant time, and a prefix sum turns the differences into counts. The rows are split into
+ * bands that are accumulated and summed independently in parallel.
+ */
+public class DensityRasterBuilder {
+    private final int cellSize;
+    private final CoverageMode coverageMode;
+    private final int bandCount;
+
+    /**
+     * @param cellSize: The width and height of every cell in coordinate units.
+     * @param coverageMode: Whether rectangles cover their full area or only the cells their border nodes fall into.
+     * @param bandCount: The number of row bands computed in parallel.
+     */
+    public DensityRasterBuilder(int cellSize, CoverageMode coverageMode, int bandCount) {
+        if (cellSize < 1 || bandCount < 1) {
+            throw new IllegalArgumentException("Cell size and band count must both be at least 1.");
+        }
+        this.cellSize = cellSize;
+        this.coverageMode = coverageMode;
+        this.bandCount = bandCount;
+    }
+
+    public DensityRasterBuilder(int cellSize, CoverageMode coverageMode) {
+        this(cellSize, coverageMode, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Builds a raster whose extent is the bounding box of the provided rectangles.
+     *
+     * @param rectangles: The rectangles to count.
+     * @return Returns the resulting {@link DensityRaster}. An empty input produces an empty raster.
+     */
+    public DensityRaster build(Collection<Rectangle> rectangles) {
+        if (rectangles.isEmpty()) {
+            return new DensityRaster(0, 0, cellSize, 0, 0, new int[0]);
+        }
+
+        int originX = Integer.MAX_VALUE;
+        int originY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (Rectangle rectangle : rectangles) {
+            originX = Math.min(originX, rectangle.getLeftXLine());
+            originY = Math.min(originY, rectangle.getLowerYLine());
+            maxX = Math.max(maxX, rectangle.getRightXLine());
+            maxY = Math.max(maxY, rectangle.getUpperYLine());
+        }
+
+        return build(rectangles, originX, originY, cellIndex(maxX, originX) + 1, cellIndex(maxY, originY) + 1);
+    }
+
+    /**
+     * Builds a raster over an explicit extent. Parts of rectangles falling outside the extent are ignored.
+     *
+     * @param rectangles: The rectangles to count.
+     * @param originX: The lowest x coordinate of the first column.
+     * @param originY: The lowest y coordinate of the first row.
+     * @param columns: The number of columns in the raster.
+     * @param rows: The number of rows in the raster.
+     * @return Returns the resulting {@link DensityRaster}.
+     */
+    public DensityRaster build(Collection<Rectangle> rectangles, int originX, int originY, int columns, int rows) {
+        if ((long) columns * rows > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("A raster of " + columns + " x " + rows + " cells is too large. Increase the cell size.");
+        }
+
+        //Cell ranges are stored in primitive columns so that every band can scan them without touching the rectangle objects.
+        int rectangleCount = rectangles.size();
+        int[] firstColumns = new int[rectangleCount];
+        int[] lastColumns = new int[rectangleCount];
+        int[] firstRows = new int[rectangleCount];
+        int[] lastRows = new int[rectangleCount];
+        int index = 0;
+        for (Rectangle rectangle : rectangles) {
+            firstColumns[index] = cellIndex(rectangle.getLeftXLine(), originX);
+            lastColumns[index] = cellIndex(rectangle.getRightXLine(), originX);
+            firstRows[index] = cellIndex(rectangle.getLowerYLine(), originY);
+            lastRows[index] = cellIndex(rectangle.getUpperYLine(), originY);
+            index++;
+        }
+
+        int[] counts = new int[columns * rows];
+        int effectiveBandCount = Math.max(1, Math.min(bandCount, rows));
+        int rowsPerBand = (rows + effectiveBandCount - 1) / effectiveBandCount;
+
+        IntStream.range(0, effectiveBandCount).parallel().forEach(band -> {
+            int bandFirstRow = band * rowsPerBand;
+            int bandEndRow = Math.min(rows, bandFirstRow + rowsPerBand);
+            if (bandFirstRow < bandEndRow) {
+                fillBand(counts, columns, bandFirstRow, bandEndRow, firstColumns, lastColumns, firstRows, lastRows);
+            }
+        });
+
+        return new DensityRaster(originX, originY, cellSize, columns, rows, counts);
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    /**
+     * Accumulates every rectangle touching the band into a band local difference array and prefix sums it into the output.
+     */
+    private void fillBand(int[] counts, int columns, int bandFirstRow, int bandEndRow,
+                          int[] firstColumns, int[] lastColumns, int[] firstRows, int[] lastRows) {
+        int bandRows = bandEndRow - bandFirstRow;
+        int stride = columns + 1;
+        int[] differences = new int[(bandRows + 1) * stride];
+
+        for (int index = 0; index < firstColumns.length; index++) {
+            addBlock(differences, stride, columns, bandFirstRow, bandEndRow,
+                    firstColumns[index], lastColumns[index], firstRows[index], lastRows[index], 1);
+
+            //Cells strictly inside the border block contain no border nodes, so they are removed again.
+            if (coverageMode == CoverageMode.BORDER_ONLY) {
+                addBlock(differences, stride, columns, bandFirstRow, bandEndRow,
+                        firstColumns[index] + 1, lastColumns[index] - 1, firstRows[index] + 1, lastRows[index] - 1, -1);
+            }
+        }
+
+        for (int row = 0; row < bandRows; row++) {
+            int runningRowSum = 0;
+            for (int column = 0; column < columns; column++) {
+                runningRowSum += differences[row * stride + column];
+                int cellValue = runningRowSum + (row > 0 ? differences[(row - 1) * stride + column] : 0);
+                differences[row * stride + column] = cellValue;
+                counts[(bandFirstRow + row) * columns + column] = cellValue;
+            }
+        }
+    }
+
+    /**
+     * Adds the provided value to every cell of the block, clipped to the band and to the raster columns.
+     */
+    private static void addBlock(int[] differences, int stride, int columns, int bandFirstRow, int bandEndRow,
+                                 int firstColumn, int lastColumn, int firstRow, int lastRow, int value) {
+        int clippedFirstRow = Math.max(firstRow, bandFirstRow);
+        int clippedLastRow = Math.min(lastRow, bandEndRow - 1);
+        int clippedFirstColumn = Math.max(firstColumn, 0);
+        int clippedLastColumn = Math.min(lastColumn, columns - 1);
+        if (clippedFirstRow > clippedLastRow || clippedFirstColumn > clippedLastColumn) {
+            return;
+        }
+
+        int top = clippedFirstRow - bandFirstRow;
+        int bottom = clippedLastRow - bandFirstRow + 1;
+        differences[top * stride + clippedFirstColumn] += value;
+        differences[top * stride + clippedLastColumn + 1] -= value;
+        differences[bottom * stride + clippedFirstColumn] -= value;
+        differences[bottom * stride + clippedLastColumn + 1] += value;
+    }
+
+    /**
+     * Cell indexes are clamped one short of the int limits so that neighbouring indexes can still be formed safely.
+     * Clamped indexes always fall outside the raster and are clipped away.
+     */
+    private int cellIndex(int coordinate, int origin) {
+        long cellIndex = Math.floorDiv((long) coordinate - origin, (long) cellSize);
+        return (int) Math.max(Integer.MIN_VALUE + 1, Math.min(Integer.MAX_VALUE - 1, cellIndex));
+    }
+}
@@ -0,0 +1,43 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.diff;
+
+import java.util.List;
+
+/**
+ * The relationships that appeared and disappeared between two versions of a layout.
+ * Both lists are ordered by their first key and then by their second key.
+ */
+public class LayoutDiff<K> {
+    private final List<PairRelationship<K>> added;
+    private final List<PairRelationship<K>> removed;
+
+    LayoutDiff(List<PairRelationship<K>> added, List<PairRelationship<K>> removed) {
+        this.added = added;
+        this.removed = removed;
+    }
+
+    /**
+     * @return Returns the relationships present in the new version but not in the old one.
+     */
+    public List<PairRelationship<K>> getAdded() {
+        return added;
+    }
+
+    /**
+     * @return Returns the relationships present in the old version but not in the new one.
+     */
+    public List<PairRelationship<K>> getRemoved() {
+        return removed;
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "LayoutDiff{" +
+                "added=" + added +
+                ", removed=" + removed +
+                '}';
+    }
+}
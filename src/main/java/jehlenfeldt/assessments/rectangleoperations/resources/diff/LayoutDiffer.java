@@ -0,0 +1,154 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.diff;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.index.RectangleIndex;
+import jehlenfeldt.assessments.rectangleoperations.resources.relationship.RelationshipClassifier;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Compares two versions of a layout and reports the relationships that were added or removed between them.
+ *
+ * Only rectangles that were added, removed or moved can change a relationship, so the existing operations are only run
+ * for pairs that involve one of them. The other rectangle of each pair is found with a window query on a
+ * {@link RectangleIndex} of the version, which keeps the work proportional to the neighbourhood of the change rather
+ * than to the size of the layout.
+ */
+public final class LayoutDiffer {
+
+    private LayoutDiffer() {
+    }
+
+    /**
+     * Matches rectangles across versions by their keys. A key whose rectangle differs between the versions is treated
+     * as a removal from the previous version and an addition to the current one.
+     *
+     * @param previous: The old version of the layout.
+     * @param current: The new version of the layout.
+     * @return Returns the relationships that differ between the versions.
+     */
+    public static <K extends Comparable<? super K>> LayoutDiff<K> diffById(Map<K, Rectangle> previous, Map<K, Rectangle> current) {
+        Set<K> changedKeys = new HashSet<>();
+        for (Map.Entry<K, Rectangle> entry : previous.entrySet()) {
+            if (!entry.getValue().equals(current.get(entry.getKey()))) {
+                changedKeys.add(entry.getKey());
+            }
+        }
+        for (Map.Entry<K, Rectangle> entry : current.entrySet()) {
+            if (!entry.getValue().equals(previous.get(entry.getKey()))) {
+                changedKeys.add(entry.getKey());
+            }
+        }
+
+        Set<PairRelationship<K>> previousRelationships = findRelationshipsAround(previous, changedKeys);
+        Set<PairRelationship<K>> currentRelationships = findRelationshipsAround(current, changedKeys);
+
+        Comparator<PairRelationship<K>> byKeys = Comparator.comparing((PairRelationship<K> relationship) -> relationship.getFirstKey())
+                .thenComparing(PairRelationship::getSecondKey);
+        List<PairRelationship<K>> added = new ArrayList<>();
+        for (PairRelationship<K> relationship : currentRelationships) {
+            if (!previousRelationships.contains(relationship)) {
+                added.add(relationship);
+            }
+        }
+        List<PairRelationship<K>> removed = new ArrayList<>();
+        for (PairRelationship<K> relationship : previousRelationships) {
+            if (!currentRelationships.contains(relationship)) {
+                removed.add(relationship);
+            }
+        }
+        added.sort(byKeys);
+        removed.sort(byKeys);
+        return new LayoutDiff<>(added, removed);
+    }
+
+    /**
+     * Matches rectangles across versions by {@link Rectangle#equals(Object)}. Equal rectangles are paired in list order,
+     * so duplicates are matched one to one.
+     *
+     * Keys below current.size() are indexes into the current list. Rectangles of the previous list without an equal
+     * partner are keyed by current.size() plus their index in the previous list.
+     *
+     * @param previous: The old version of the layout.
+     * @param current: The new version of the layout.
+     * @return Returns the relationships that differ between the versions.
+     */
+    public static LayoutDiff<Integer> diffByEquality(List<Rectangle> previous, List<Rectangle> current) {
+        Map<Rectangle, Deque<Integer>> unmatchedCurrentIndexes = new HashMap<>();
+        Map<Integer, Rectangle> currentByKey = new LinkedHashMap<>();
+        for (int index = 0; index < current.size(); index++) {
+            unmatchedCurrentIndexes.computeIfAbsent(current.get(index), rectangle -> new ArrayDeque<>()).add(index);
+            currentByKey.put(index, current.get(index));
+        }
+
+        Map<Integer, Rectangle> previousByKey = new LinkedHashMap<>();
+        for (int index = 0; index < previous.size(); index++) {
+            Deque<Integer> candidates = unmatchedCurrentIndexes.get(previous.get(index));
+            Integer match = candidates == null ? null : candidates.poll();
+            previousByKey.put(match == null ? current.size() + index : match, previous.get(index));
+        }
+        return diffById(previousByKey, currentByKey);
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    private static <K extends Comparable<? super K>> Set<PairRelationship<K>> findRelationshipsAround(Map<K, Rectangle> version, Set<K> changedKeys) {
+        Set<PairRelationship<K>> relationships = new HashSet<>();
+        Set<K> presentChangedKeys = new TreeSet<>();
+        for (K key : changedKeys) {
+            if (version.containsKey(key)) {
+                presentChangedKeys.add(key);
+            }
+        }
+        if (presentChangedKeys.isEmpty()) {
+            return relationships;
+        }
+
+        List<K> keys = new ArrayList<>(version.keySet());
+        List<Rectangle> rectangles = new ArrayList<>(version.values());
+        RectangleIndex index = new RectangleIndex(rectangles);
+        for (K changedKey : presentChangedKeys) {
+            Rectangle changedRectangle = version.get(changedKey);
+            for (int neighbour : index.findTouchingIndexes(changedRectangle)) {
+                K neighbourKey = keys.get(neighbour);
+                int order = neighbourKey.compareTo(changedKey);
+                //Pairs of two changed rectangles are visited from both sides, only the lower key records them.
+                if (order == 0 || order < 0 && presentChangedKeys.contains(neighbourKey)) {
+                    continue;
+                }
+
+                PairRelationship<K> relationship = order < 0
+                        ? relate(neighbourKey, rectangles.get(neighbour), changedKey, changedRectangle)
+                        : relate(changedKey, changedRectangle, neighbourKey, rectangles.get(neighbour));
+                if (relationship != null) {
+                    relationships.add(relationship);
+                }
+            }
+        }
+        return relationships;
+    }
+
+    private static <K> PairRelationship<K> relate(K firstKey, Rectangle firstRectangle, K secondKey, Rectangle secondRectangle) {
+        if (RelationshipClassifier.classify(firstRectangle, secondRectangle) == 0) {
+            return null;
+        }
+        return new PairRelationship<>(firstKey, secondKey,
+                firstRectangle.identifyIntersections(secondRectangle),
+                firstRectangle.isFullyContainedBy(secondRectangle),
+                secondRectangle.isFullyContainedBy(firstRectangle),
+                firstRectangle.findAnyAdjacencyWith(secondRectangle));
+    }
+}
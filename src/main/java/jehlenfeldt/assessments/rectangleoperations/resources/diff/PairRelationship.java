@@ -0,0 +1,87 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.diff;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.Adjacency;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.Intersections;
+
+import java.util.List;
+
+/**
+ * The relationship between two rectangles of a layout, identified by their keys.
+ * Results are computed from the perspective of the rectangle with the lower key.
+ */
+public class PairRelationship<K> {
+    private final K firstKey;
+    private final K secondKey;
+    private final Intersections intersections;
+    private final boolean firstContainedBySecond;
+    private final boolean secondContainedByFirst;
+    private final List<Adjacency> adjacencies;
+
+    PairRelationship(K firstKey, K secondKey, Intersections intersections, boolean firstContainedBySecond,
+                     boolean secondContainedByFirst, List<Adjacency> adjacencies) {
+        this.firstKey = firstKey;
+        this.secondKey = secondKey;
+        this.intersections = intersections;
+        this.firstContainedBySecond = firstContainedBySecond;
+        this.secondContainedByFirst = secondContainedByFirst;
+        this.adjacencies = adjacencies;
+    }
+
+    public K getFirstKey() {
+        return firstKey;
+    }
+
+    public K getSecondKey() {
+        return secondKey;
+    }
+
+    public Intersections getIntersections() {
+        return intersections;
+    }
+
+    public boolean isFirstContainedBySecond() {
+        return firstContainedBySecond;
+    }
+
+    public boolean isSecondContainedByFirst() {
+        return secondContainedByFirst;
+    }
+
+    public List<Adjacency> getAdjacencies() {
+        return adjacencies;
+    }
+
+    @Override
+    public String toString() {
+        return "PairRelationship{" +
+                "firstKey=" + firstKey +
+                ", secondKey=" + secondKey +
+                ", intersections=" + intersections +
+                ", firstContainedBySecond=" + firstContainedBySecond +
+                ", secondContainedByFirst=" + secondContainedByFirst +
+                ", adjacencies=" + adjacencies +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || !obj.getClass().equals(PairRelationship.class)) {
+            return false;
+        }
+        PairRelationship<?> other = (PairRelationship<?>) obj;
+        return this.firstKey.equals(other.firstKey)
+                && this.secondKey.equals(other.secondKey)
+                && this.intersections.equals(other.intersections)
+                && this.firstContainedBySecond == other.firstContainedBySecond
+                && this.secondContainedByFirst == other.secondContainedByFirst
+                && this.adjacencies.equals(other.adjacencies);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * firstKey.hashCode() + secondKey.hashCode()) + intersections.hashCode();
+    }
+}
@@ -0,0 +1,177 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.encoding;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.Adjacency;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyAxis;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyType;
+import jehlenfeldt.assessments.rectangleoperations.resources.containment.Containment;
+import jehlenfeldt.assessments.rectangleoperations.resources.containment.ContainmentType;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.IntersectionType;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.Intersections;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the records written by a {@link BinaryResultEncoder} from a channel through a single reusable buffer.
+ * Decoders are not thread safe and never close the channel.
+ */
+public class BinaryResultDecoder {
+    private static final int MAXIMUM_PREALLOCATED_NODES = 1 << 16;
+    private static final IntersectionType[] INTERSECTION_TYPES = IntersectionType.values();
+    private static final AdjacencyType[] ADJACENCY_TYPES = AdjacencyType.values();
+    private static final AdjacencyAxis[] ADJACENCY_AXES = AdjacencyAxis.values();
+    private static final ContainmentType[] CONTAINMENT_TYPES = ContainmentType.values();
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    /**
+     * @param channel: The channel to read from.
+     * @param bufferBytes: The capacity of the read buffer, at least 64 bytes.
+     */
+    public BinaryResultDecoder(ReadableByteChannel channel, int bufferBytes) {
+        if (bufferBytes < ChannelResultEncoder.MINIMUM_BUFFER_BYTES) {
+            throw new IllegalArgumentException("The buffer must hold at least " + ChannelResultEncoder.MINIMUM_BUFFER_BYTES + " bytes");
+        }
+
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+        this.buffer.flip();
+    }
+
+    public BinaryResultDecoder(ReadableByteChannel channel) {
+        this(channel, 1 << 16);
+    }
+
+    /**
+     * Reads the next record and hands it to the handler.
+     *
+     * @return Returns false once the channel has no further records.
+     * @throws IOException if the channel fails or the stream is not a valid result stream.
+     */
+    public boolean readNext(ResultHandler handler) throws IOException {
+        if (!fill(1)) {
+            return false;
+        }
+
+        byte tag = buffer.get();
+        switch (tag) {
+            case BinaryResultEncoder.INTERSECTIONS_TAG:
+                handler.onIntersections(readIntersections());
+                break;
+            case BinaryResultEncoder.ADJACENCY_TAG:
+                handler.onAdjacency(readAdjacency());
+                break;
+            case BinaryResultEncoder.CONTAINMENT_TAG:
+                handler.onContainment(readContainment());
+                break;
+            default:
+                throw new IOException("Unknown result tag " + tag);
+        }
+        return true;
+    }
+
+    /**
+     * Reads every remaining record and hands each to the handler.
+     *
+     * @return Returns the number of records read.
+     */
+    public long readAll(ResultHandler handler) throws IOException {
+        long records = 0;
+        while (readNext(handler)) {
+            records++;
+        }
+        return records;
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    private Intersections readIntersections() throws IOException {
+        require(5);
+        IntersectionType intersectionType = decode(INTERSECTION_TYPES, buffer.get());
+        int nodeCount = buffer.getInt();
+        if (nodeCount < 0) {
+            throw new IOException("Negative node count " + nodeCount);
+        }
+
+        List<Node> nodes = new ArrayList<>(Math.min(nodeCount, MAXIMUM_PREALLOCATED_NODES));
+        for (int index = 0; index < nodeCount; index++) {
+            require(8);
+            nodes.add(new Node(buffer.getInt(), buffer.getInt()));
+        }
+        return new Intersections(intersectionType, nodes);
+    }
+
+    private Adjacency readAdjacency() throws IOException {
+        require(18);
+        AdjacencyType adjacencyType = decode(ADJACENCY_TYPES, buffer.get());
+        AdjacencyAxis adjacencyAxis = decode(ADJACENCY_AXES, buffer.get());
+        Node startNode = new Node(buffer.getInt(), buffer.getInt());
+        Node endNode = new Node(buffer.getInt(), buffer.getInt());
+        return new Adjacency(adjacencyType, adjacencyAxis, startNode, endNode);
+    }
+
+    private Containment readContainment() throws IOException {
+        require(1);
+        ContainmentType containmentType = decode(CONTAINMENT_TYPES, buffer.get());
+        if (containmentType == ContainmentType.NONE) {
+            return new Containment(containmentType, null, null);
+        }
+        return new Containment(containmentType, readRectangle(), readRectangle());
+    }
+
+    private Rectangle readRectangle() throws IOException {
+        require(16);
+        Node upperLeftCorner = new Node(buffer.getInt(), buffer.getInt());
+        Node lowerRightCorner = new Node(buffer.getInt(), buffer.getInt());
+        try {
+            return new Rectangle(upperLeftCorner, lowerRightCorner);
+        } catch (InvalidDimensionsException e) {
+            throw new IOException("Invalid rectangle in result stream", e);
+        }
+    }
+
+    private static <T> T decode(T[] values, byte ordinal) throws IOException {
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IOException("Unknown " + values.getClass().getComponentType().getSimpleName() + " ordinal " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    private void require(int bytes) throws IOException {
+        if (!fill(bytes)) {
+            throw new EOFException("The result stream ends inside a record");
+        }
+    }
+
+    /**
+     * @return Returns false if the channel ends before the requested number of bytes is available.
+     */
+    private boolean fill(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+
+        buffer.compact();
+        try {
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    return false;
+                }
+            }
+        } finally {
+            buffer.flip();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,77 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.encoding;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.Adjacency;
+import jehlenfeldt.assessments.rectangleoperations.resources.containment.Containment;
+import jehlenfeldt.assessments.rectangleoperations.resources.containment.ContainmentType;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.Intersections;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+/**
+ * Encodes results in a compact binary form that {@link BinaryResultDecoder} reads back.
+ *
+ * Every record starts with a tag byte followed by big-endian values, enums are written as their ordinal byte:
+ *  INTERSECTIONS_TAG, intersectionType, int nodeCount, then nodeCount times: int x, int y
+ *  ADJACENCY_TAG, adjacencyType, adjacencyAxis, int startX, int startY, int endX, int endY
+ *  CONTAINMENT_TAG, containmentType, then unless the type is NONE the inner and the outer rectangle as
+ *  int upperLeftX, int upperLeftY, int lowerRightX, int lowerRightY
+ */
+public class BinaryResultEncoder extends ChannelResultEncoder {
+    static final byte INTERSECTIONS_TAG = 1;
+    static final byte ADJACENCY_TAG = 2;
+    static final byte CONTAINMENT_TAG = 3;
+
+    /**
+     * @param channel: The channel to write to. A {@link java.nio.channels.GatheringByteChannel} such as a
+     *                 {@link java.nio.channels.FileChannel} receives all buffers in a single write.
+     * @param bufferCount: The number of buffers to fill before writing to the channel.
+     * @param bufferBytes: The capacity of each buffer, at least 64 bytes.
+     */
+    public BinaryResultEncoder(WritableByteChannel channel, int bufferCount, int bufferBytes) {
+        super(channel, bufferCount, bufferBytes);
+    }
+
+    public BinaryResultEncoder(WritableByteChannel channel) {
+        this(channel, 4, 1 << 16);
+    }
+
+    @Override
+    public void write(Intersections intersections) throws IOException {
+        List<Node> nodes = intersections.getIntersectionNodes();
+        reserve(6).put(INTERSECTIONS_TAG).put((byte) intersections.getIntersectionType().ordinal()).putInt(nodes.size());
+        for (Node node : nodes) {
+            reserve(8).putInt(node.getXCoordinate()).putInt(node.getYCoordinate());
+        }
+    }
+
+    @Override
+    public void write(Adjacency adjacency) throws IOException {
+        reserve(19).put(ADJACENCY_TAG)
+                .put((byte) adjacency.getAdjacencyType().ordinal())
+                .put((byte) adjacency.getAdjacencyAxis().ordinal())
+                .putInt(adjacency.getStartNode().getXCoordinate())
+                .putInt(adjacency.getStartNode().getYCoordinate())
+                .putInt(adjacency.getEndNode().getXCoordinate())
+                .putInt(adjacency.getEndNode().getYCoordinate());
+    }
+
+    @Override
+    public void write(Containment containment) throws IOException {
+        reserve(2).put(CONTAINMENT_TAG).put((byte) containment.getContainmentType().ordinal());
+        if (containment.getContainmentType() != ContainmentType.NONE) {
+            writeRectangle(containment.getInnerRectangle());
+            writeRectangle(containment.getOuterRectangle());
+        }
+    }
+
+    private void writeRectangle(Rectangle rectangle) throws IOException {
+        reserve(16).putInt(rectangle.getLeftXLine())
+                .putInt(rectangle.getUpperYLine())
+                .putInt(rectangle.getRightXLine())
+                .putInt(rectangle.getLowerYLine());
+    }
+}
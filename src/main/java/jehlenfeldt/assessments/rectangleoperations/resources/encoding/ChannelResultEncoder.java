@@ -0,0 +1,97 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.encoding;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Holds the reusable buffers of a {@link ResultEncoder}. Encoders reserve room for each value before putting it, which
+ * moves on to the next buffer once the current one is full. When every buffer is full they are all handed to the
+ * channel in a single gathering write, so a flush costs one system call rather than one per buffer.
+ *
+ * Encoders are not thread safe and never close the channel. The channel must be in blocking mode, a channel that accepts
+ * no bytes makes the flush fail rather than retry.
+ */
+abstract class ChannelResultEncoder implements ResultEncoder {
+    static final int MINIMUM_BUFFER_BYTES = 64;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer[] buffers;
+    private int currentBuffer;
+
+    ChannelResultEncoder(WritableByteChannel channel, int bufferCount, int bufferBytes) {
+        if (bufferCount < 1) {
+            throw new IllegalArgumentException("At least one buffer is required");
+        }
+        if (bufferBytes < MINIMUM_BUFFER_BYTES) {
+            throw new IllegalArgumentException("Buffers must hold at least " + MINIMUM_BUFFER_BYTES + " bytes");
+        }
+
+        this.channel = channel;
+        this.buffers = new ByteBuffer[bufferCount];
+        for (int index = 0; index < bufferCount; index++) {
+            buffers[index] = ByteBuffer.allocateDirect(bufferBytes);
+        }
+    }
+
+    /**
+     * Writes every buffered byte to the channel and makes the buffers available for reuse. The buffers are emptied even
+     * when the write fails, so bytes the channel did not accept are lost rather than written again on the next flush.
+     */
+    @Override
+    public void flush() throws IOException {
+        int usedBuffers = currentBuffer + 1;
+        long pendingBytes = 0;
+        for (int index = 0; index < usedBuffers; index++) {
+            buffers[index].flip();
+            pendingBytes += buffers[index].remaining();
+        }
+
+        try {
+            if (channel instanceof GatheringByteChannel) {
+                while (pendingBytes > 0) {
+                    pendingBytes -= requireProgress(((GatheringByteChannel) channel).write(buffers, 0, usedBuffers));
+                }
+            } else {
+                for (int index = 0; index < usedBuffers; index++) {
+                    while (buffers[index].hasRemaining()) {
+                        requireProgress(channel.write(buffers[index]));
+                    }
+                }
+            }
+        } finally {
+            for (int index = 0; index < usedBuffers; index++) {
+                buffers[index].clear();
+            }
+            currentBuffer = 0;
+        }
+    }
+
+    /**
+     * @param bytes: The number of bytes about to be put. Must not exceed {@link #MINIMUM_BUFFER_BYTES}.
+     * @return Returns a buffer with at least the requested number of bytes remaining.
+     */
+    final ByteBuffer reserve(int bytes) throws IOException {
+        if (buffers[currentBuffer].remaining() < bytes) {
+            if (currentBuffer + 1 < buffers.length) {
+                currentBuffer++;
+            } else {
+                flush();
+            }
+        }
+        return buffers[currentBuffer];
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    private static long requireProgress(long writtenBytes) throws IOException {
+        if (writtenBytes <= 0) {
+            throw new IOException("The channel accepted no bytes, it must be in blocking mode");
+        }
+        return writtenBytes;
+    }
+}
@@ -0,0 +1,21 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.encoding;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.Adjacency;
+import jehlenfeldt.assessments.rectangleoperations.resources.containment.Containment;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.Intersections;
+
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * Writes operation results to a channel without building an intermediate string per result.
+ * Results are buffered and only reach the channel once a buffer fills up or {@link #flush()} is called.
+ */
+public interface ResultEncoder extends Flushable {
+
+    void write(Intersections intersections) throws IOException;
+
+    void write(Adjacency adjacency) throws IOException;
+
+    void write(Containment containment) throws IOException;
+}
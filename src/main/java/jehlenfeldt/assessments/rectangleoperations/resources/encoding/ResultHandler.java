@@ -0,0 +1,17 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.encoding;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.Adjacency;
+import jehlenfeldt.assessments.rectangleoperations.resources.containment.Containment;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.Intersections;
+
+/**
+ * Receives the results read by a {@link BinaryResultDecoder} in the order they were written.
+ */
+public interface ResultHandler {
+
+    void onIntersections(Intersections intersections);
+
+    void onAdjacency(Adjacency adjacency);
+
+    void onContainment(Containment containment);
+}
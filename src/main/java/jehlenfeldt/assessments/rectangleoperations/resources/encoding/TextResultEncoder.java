@@ -0,0 +1,127 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.encoding;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.Adjacency;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyAxis;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyType;
+import jehlenfeldt.assessments.rectangleoperations.resources.containment.Containment;
+import jehlenfeldt.assessments.rectangleoperations.resources.containment.ContainmentType;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.IntersectionType;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.Intersections;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes results as one line of ASCII text each. Numbers are written digit by digit straight into the buffer and enum
+ * names are encoded once, so no string is built per result.
+ *
+ * Line formats, with nodes written as x,y and rectangles as upperLeftX,upperLeftY,lowerRightX,lowerRightY:
+ *  I intersectionType node node ...
+ *  A adjacencyType adjacencyAxis startNode endNode
+ *  C containmentType innerRectangle outerRectangle, where both rectangles are left out for NONE
+ */
+public class TextResultEncoder extends ChannelResultEncoder {
+    private static final byte[][] INTERSECTION_TYPE_NAMES = encodeNames(IntersectionType.values());
+    private static final byte[][] ADJACENCY_TYPE_NAMES = encodeNames(AdjacencyType.values());
+    private static final byte[][] ADJACENCY_AXIS_NAMES = encodeNames(AdjacencyAxis.values());
+    private static final byte[][] CONTAINMENT_TYPE_NAMES = encodeNames(ContainmentType.values());
+
+    private final byte[] digits = new byte[11];
+
+    /**
+     * @param channel: The channel to write to. A {@link java.nio.channels.GatheringByteChannel} such as a
+     *                 {@link java.nio.channels.FileChannel} receives all buffers in a single write.
+     * @param bufferCount: The number of buffers to fill before writing to the channel.
+     * @param bufferBytes: The capacity of each buffer, at least 64 bytes.
+     */
+    public TextResultEncoder(WritableByteChannel channel, int bufferCount, int bufferBytes) {
+        super(channel, bufferCount, bufferBytes);
+    }
+
+    public TextResultEncoder(WritableByteChannel channel) {
+        this(channel, 4, 1 << 16);
+    }
+
+    @Override
+    public void write(Intersections intersections) throws IOException {
+        writeLabel('I', INTERSECTION_TYPE_NAMES[intersections.getIntersectionType().ordinal()]);
+        for (Node node : intersections.getIntersectionNodes()) {
+            writeNode(node);
+        }
+        reserve(1).put((byte) '\n');
+    }
+
+    @Override
+    public void write(Adjacency adjacency) throws IOException {
+        writeLabel('A', ADJACENCY_TYPE_NAMES[adjacency.getAdjacencyType().ordinal()]);
+        byte[] axisName = ADJACENCY_AXIS_NAMES[adjacency.getAdjacencyAxis().ordinal()];
+        reserve(1 + axisName.length).put((byte) ' ').put(axisName);
+        writeNode(adjacency.getStartNode());
+        writeNode(adjacency.getEndNode());
+        reserve(1).put((byte) '\n');
+    }
+
+    @Override
+    public void write(Containment containment) throws IOException {
+        writeLabel('C', CONTAINMENT_TYPE_NAMES[containment.getContainmentType().ordinal()]);
+        if (containment.getContainmentType() != ContainmentType.NONE) {
+            writeRectangle(containment.getInnerRectangle());
+            writeRectangle(containment.getOuterRectangle());
+        }
+        reserve(1).put((byte) '\n');
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    private void writeLabel(char recordType, byte[] typeName) throws IOException {
+        reserve(2 + typeName.length).put((byte) recordType).put((byte) ' ').put(typeName);
+    }
+
+    private void writeNode(Node node) throws IOException {
+        ByteBuffer buffer = reserve(2 * digits.length + 2);
+        buffer.put((byte) ' ');
+        putNumber(buffer, node.getXCoordinate());
+        buffer.put((byte) ',');
+        putNumber(buffer, node.getYCoordinate());
+    }
+
+    private void writeRectangle(Rectangle rectangle) throws IOException {
+        ByteBuffer buffer = reserve(4 * digits.length + 4);
+        buffer.put((byte) ' ');
+        putNumber(buffer, rectangle.getLeftXLine());
+        buffer.put((byte) ',');
+        putNumber(buffer, rectangle.getUpperYLine());
+        buffer.put((byte) ',');
+        putNumber(buffer, rectangle.getRightXLine());
+        buffer.put((byte) ',');
+        putNumber(buffer, rectangle.getLowerYLine());
+    }
+
+    private void putNumber(ByteBuffer buffer, int number) {
+        long remaining = Math.abs((long) number);
+        int start = digits.length;
+        do {
+            digits[--start] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        if (number < 0) {
+            digits[--start] = '-';
+        }
+        buffer.put(digits, start, digits.length - start);
+    }
+
+    private static byte[][] encodeNames(Enum<?>[] values) {
+        byte[][] names = new byte[values.length][];
+        for (Enum<?> value : values) {
+            names[value.ordinal()] = value.name().getBytes(StandardCharsets.US_ASCII);
+        }
+        return names;
+    }
+}
@@ -6,4 +6,8 @@ public class InvalidDimensionsException extends RuntimeException {
                 "your upper left node is less than the x value of the lower right and that the y value of your upper left node is greater" +
                 " than the y value of your lower right.");
     }
+
+    public InvalidDimensionsException(String message) {
+        super(message);
+    }
 }
@@ -0,0 +1,7 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.exceptions;
+
+public class OperationCancelledException extends RuntimeException {
+    public OperationCancelledException() {
+        super("The rectangle operation was cancelled before it completed.");
+    }
+}
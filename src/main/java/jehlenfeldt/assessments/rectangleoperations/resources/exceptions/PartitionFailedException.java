@@ -0,0 +1,7 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.exceptions;
+
+public class PartitionFailedException extends RuntimeException {
+    public PartitionFailedException(Throwable cause) {
+        super("A partition worker failed while processing its tiles. See the cause for details.", cause);
+    }
+}
@@ -0,0 +1,298 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.index;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * A static, bulk loaded R-tree over a list of rectangles.
+ *
+ * Rectangles are packed into leaves with the Sort-Tile-Recursive method: they are sorted by the x coordinate of their
+ * center, cut into vertical slices and sorted by the y coordinate of their center within each slice. Every higher level
+ * groups consecutive nodes of the level below. All bounds are kept in primitive arrays, one set per level.
+ */
+public class RectangleIndex {
+    private static final int NODE_CAPACITY = 16;
+
+    //Nodes are expanded before rectangles at the same distance so that tied rectangles are all queued and come out by index.
+    private static final Comparator<SearchEntry> SEARCH_ORDER = Comparator
+            .comparingLong((SearchEntry entry) -> entry.squaredDistance)
+            .thenComparingInt(entry -> -entry.level)
+            .thenComparingInt(entry -> entry.tieBreaker);
+
+    private final List<Rectangle> rectangles;
+    private final int[] entryIndexes;
+    private final int[][] leftLines;
+    private final int[][] lowerLines;
+    private final int[][] rightLines;
+    private final int[][] upperLines;
+
+    /**
+     * Builds the index. Results refer to rectangles by their position in the provided list.
+     *
+     * @param rectangles: The rectangles to index. The list must not be modified while the index is in use.
+     */
+    public RectangleIndex(List<Rectangle> rectangles) {
+        this.rectangles = rectangles;
+        this.entryIndexes = sortTileRecursive(rectangles);
+
+        List<int[][]> levels = new ArrayList<>();
+        int[][] entryBounds = new int[4][entryIndexes.length];
+        for (int entry = 0; entry < entryIndexes.length; entry++) {
+            Rectangle rectangle = rectangles.get(entryIndexes[entry]);
+            entryBounds[0][entry] = rectangle.getLeftXLine();
+            entryBounds[1][entry] = rectangle.getLowerYLine();
+            entryBounds[2][entry] = rectangle.getRightXLine();
+            entryBounds[3][entry] = rectangle.getUpperYLine();
+        }
+        levels.add(entryBounds);
+
+        //Grouping each level into parents until a single root remains.
+        while (levels.get(levels.size() - 1)[0].length > 1) {
+            levels.add(groupIntoParents(levels.get(levels.size() - 1)));
+        }
+
+        int levelCount = levels.size();
+        this.leftLines = new int[levelCount][];
+        this.lowerLines = new int[levelCount][];
+        this.rightLines = new int[levelCount][];
+        this.upperLines = new int[levelCount][];
+        for (int level = 0; level < levelCount; level++) {
+            leftLines[level] = levels.get(level)[0];
+            lowerLines[level] = levels.get(level)[1];
+            rightLines[level] = levels.get(level)[2];
+            upperLines[level] = levels.get(level)[3];
+        }
+    }
+
+    public int size() {
+        return entryIndexes.length;
+    }
+
+    /**
+     * Finds the rectangles closest to the provided one, measured by {@link Rectangle#squaredDistanceTo(Rectangle)}.
+     * The search is best-first: subtrees are visited in order of their distance, so only the part of the tree that can hold
+     * one of the nearest rectangles is explored.
+     *
+     * @param queryRectangle: The rectangle to measure from. If it is part of the index it is returned with a distance of zero.
+     * @param count: The maximum number of rectangles to return.
+     * @return Returns the indexes of the nearest rectangles, closest first. Ties are ordered by index.
+     */
+    public int[] findNearestIndexes(Rectangle queryRectangle, int count) {
+        return findNearest(count, (left, lower, right, upper) -> squaredGap(
+                queryRectangle.getLeftXLine(), queryRectangle.getLowerYLine(), queryRectangle.getRightXLine(), queryRectangle.getUpperYLine(),
+                left, lower, right, upper));
+    }
+
+    /**
+     * Finds the rectangles closest to the provided node, measured by {@link Rectangle#squaredDistanceTo(Node)}.
+     *
+     * @param node: The node to measure from.
+     * @param count: The maximum number of rectangles to return.
+     * @return Returns the indexes of the nearest rectangles, closest first. Ties are ordered by index.
+     */
+    public int[] findNearestIndexes(Node node, int count) {
+        return findNearest(count, (left, lower, right, upper) -> squaredGap(
+                node.getXCoordinate(), node.getYCoordinate(), node.getXCoordinate(), node.getYCoordinate(),
+                left, lower, right, upper));
+    }
+
+    /**
+     * @return Returns the nearest rectangles to the provided one, closest first. See {@link #findNearestIndexes(Rectangle, int)}.
+     */
+    public List<Rectangle> findNearest(Rectangle queryRectangle, int count) {
+        return toRectangles(findNearestIndexes(queryRectangle, count));
+    }
+
+    /**
+     * @return Returns the nearest rectangles to the provided node, closest first. See {@link #findNearestIndexes(Node, int)}.
+     */
+    public List<Rectangle> findNearest(Node node, int count) {
+        return toRectangles(findNearestIndexes(node, count));
+    }
+
+
+    /**
+     * Finds the rectangles whose closed area shares at least one point with the provided window, including rectangles
+     * that only touch its border. Every intersection, containment or adjacency with the window is among them.
+     * Subtrees whose bounds lie apart from the window are skipped.
+     *
+     * @param window: The area to search.
+     * @return Returns the indexes of the touching rectangles in ascending order.
+     */
+    public int[] findTouchingIndexes(Rectangle window) {
+        if (size() == 0) {
+            return new int[0];
+        }
+
+        int rootLevel = leftLines.length - 1;
+        int[] pendingLevels = new int[16];
+        int[] pendingPositions = new int[16];
+        int pendingCount = 0;
+        pendingLevels[pendingCount] = rootLevel;
+        pendingPositions[pendingCount++] = 0;
+
+        int[] touching = new int[16];
+        int found = 0;
+        while (pendingCount > 0) {
+            int level = pendingLevels[--pendingCount];
+            int position = pendingPositions[pendingCount];
+            if (leftLines[level][position] > window.getRightXLine() || rightLines[level][position] < window.getLeftXLine()
+                    || lowerLines[level][position] > window.getUpperYLine() || upperLines[level][position] < window.getLowerYLine()) {
+                continue;
+            }
+
+            if (level == 0) {
+                if (found == touching.length) {
+                    touching = Arrays.copyOf(touching, found * 2);
+                }
+                touching[found++] = entryIndexes[position];
+                continue;
+            }
+
+            int firstChild = position * NODE_CAPACITY;
+            int lastChild = Math.min(firstChild + NODE_CAPACITY, leftLines[level - 1].length);
+            if (pendingCount + NODE_CAPACITY > pendingLevels.length) {
+                pendingLevels = Arrays.copyOf(pendingLevels, pendingLevels.length * 2 + NODE_CAPACITY);
+                pendingPositions = Arrays.copyOf(pendingPositions, pendingLevels.length);
+            }
+            for (int child = firstChild; child < lastChild; child++) {
+                pendingLevels[pendingCount] = level - 1;
+                pendingPositions[pendingCount++] = child;
+            }
+        }
+
+        int[] result = Arrays.copyOf(touching, found);
+        Arrays.sort(result);
+        return result;
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    private int[] findNearest(int count, BoxDistance boxDistance) {
+        int resultCount = Math.min(count, size());
+        int[] nearest = new int[Math.max(0, resultCount)];
+        if (resultCount <= 0) {
+            return nearest;
+        }
+
+        int rootLevel = leftLines.length - 1;
+        PriorityQueue<SearchEntry> queue = new PriorityQueue<>(SEARCH_ORDER);
+        queue.add(new SearchEntry(distanceToNode(boxDistance, rootLevel, 0), rootLevel, 0, 0));
+
+        int found = 0;
+        while (found < resultCount) {
+            SearchEntry closest = queue.poll();
+            if (closest.level == 0) {
+                nearest[found++] = entryIndexes[closest.position];
+                continue;
+            }
+
+            int childLevel = closest.level - 1;
+            int firstChild = closest.position * NODE_CAPACITY;
+            int lastChild = Math.min(firstChild + NODE_CAPACITY, leftLines[childLevel].length);
+            for (int child = firstChild; child < lastChild; child++) {
+                int tieBreaker = childLevel == 0 ? entryIndexes[child] : child;
+                queue.add(new SearchEntry(distanceToNode(boxDistance, childLevel, child), childLevel, child, tieBreaker));
+            }
+        }
+
+        return nearest;
+    }
+
+    private long distanceToNode(BoxDistance boxDistance, int level, int position) {
+        return boxDistance.squaredDistance(leftLines[level][position], lowerLines[level][position], rightLines[level][position], upperLines[level][position]);
+    }
+
+    private List<Rectangle> toRectangles(int[] indexes) {
+        List<Rectangle> result = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            result.add(rectangles.get(index));
+        }
+        return result;
+    }
+
+    /**
+     * Orders the rectangles for packing. Centers are compared through the sum of both lines, which avoids fractions.
+     *
+     * @return Returns the rectangle indexes in leaf packing order.
+     */
+    private static int[] sortTileRecursive(List<Rectangle> rectangles) {
+        int count = rectangles.size();
+        Integer[] order = new Integer[count];
+        for (int index = 0; index < count; index++) {
+            order[index] = index;
+        }
+        Arrays.sort(order, Comparator.comparingLong(index -> (long) rectangles.get(index).getLeftXLine() + rectangles.get(index).getRightXLine()));
+
+        int leafCount = (count + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int sliceCount = (int) Math.ceil(Math.sqrt(leafCount));
+        int sliceSize = Math.max(1, sliceCount * NODE_CAPACITY);
+        for (int sliceStart = 0; sliceStart < count; sliceStart += sliceSize) {
+            Arrays.sort(order, sliceStart, Math.min(count, sliceStart + sliceSize),
+                    Comparator.comparingLong(index -> (long) rectangles.get(index).getLowerYLine() + rectangles.get(index).getUpperYLine()));
+        }
+
+        return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[][] groupIntoParents(int[][] childBounds) {
+        int childCount = childBounds[0].length;
+        int parentCount = (childCount + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int[][] parentBounds = new int[4][parentCount];
+
+        for (int parent = 0; parent < parentCount; parent++) {
+            int firstChild = parent * NODE_CAPACITY;
+            int lastChild = Math.min(firstChild + NODE_CAPACITY, childCount);
+            parentBounds[0][parent] = Integer.MAX_VALUE;
+            parentBounds[1][parent] = Integer.MAX_VALUE;
+            parentBounds[2][parent] = Integer.MIN_VALUE;
+            parentBounds[3][parent] = Integer.MIN_VALUE;
+            for (int child = firstChild; child < lastChild; child++) {
+                parentBounds[0][parent] = Math.min(parentBounds[0][parent], childBounds[0][child]);
+                parentBounds[1][parent] = Math.min(parentBounds[1][parent], childBounds[1][child]);
+                parentBounds[2][parent] = Math.max(parentBounds[2][parent], childBounds[2][child]);
+                parentBounds[3][parent] = Math.max(parentBounds[3][parent], childBounds[3][child]);
+            }
+        }
+
+        return parentBounds;
+    }
+
+    /**
+     * Squared length of the gap between two boxes. Coordinates are widened so that any pair of int boxes is measured exactly.
+     */
+    private static long squaredGap(int firstLeft, int firstLower, int firstRight, int firstUpper,
+                                   int secondLeft, int secondLower, int secondRight, int secondUpper) {
+        long xGap = Math.max(0L, Math.max((long) secondLeft - firstRight, (long) firstLeft - secondRight));
+        long yGap = Math.max(0L, Math.max((long) secondLower - firstUpper, (long) firstLower - secondUpper));
+        return Math.addExact(Math.multiplyExact(xGap, xGap), Math.multiplyExact(yGap, yGap));
+    }
+
+    @FunctionalInterface
+    private interface BoxDistance {
+        long squaredDistance(int left, int lower, int right, int upper);
+    }
+
+    private static class SearchEntry {
+        private final long squaredDistance;
+        private final int level;
+        private final int position;
+        private final int tieBreaker;
+
+        private SearchEntry(long squaredDistance, int level, int position, int tieBreaker) {
+            this.squaredDistance = squaredDistance;
+            this.level = level;
+            this.position = position;
+            this.tieBreaker = tieBreaker;
+        }
+    }
+}
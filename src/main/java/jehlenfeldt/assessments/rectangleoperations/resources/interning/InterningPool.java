@@ -0,0 +1,174 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.interning;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Thread safe pool that canonicalizes {@link Node} and {@link Rectangle} instances by their coordinates.
+ * Interning the same coordinates twice returns the same instance, which turns the equals checks performed by
+ * {@link Rectangle} into identity comparisons and lets duplicated input share a single object.
+ *
+ * Canonical instances are only weakly retained. Once no caller references an interned object it becomes eligible for
+ * garbage collection and its pool entry is purged on a later call.
+ */
+public class InterningPool {
+    private final CanonicalMap<Long, Node> nodes = new CanonicalMap<>();
+    private final CanonicalMap<RectangleKey, Rectangle> rectangles = new CanonicalMap<>();
+
+    /**
+     * @return Returns the canonical {@link Node} for the provided coordinates.
+     */
+    public Node internNode(int xCoordinate, int yCoordinate) {
+        return nodes.intern(packCoordinates(xCoordinate, yCoordinate), () -> new Node(xCoordinate, yCoordinate));
+    }
+
+    /**
+     * @return Returns the canonical {@link Node} equal to the provided one. The provided node becomes canonical if none exists yet.
+     */
+    public Node intern(Node node) {
+        return nodes.intern(packCoordinates(node.getXCoordinate(), node.getYCoordinate()), () -> node);
+    }
+
+    /**
+     * Returns the canonical rectangle for the provided corner coordinates. Validation only runs when the rectangle is
+     * not already present in the pool.
+     *
+     * @return Returns the canonical {@link Rectangle} for the provided coordinates.
+     */
+    public Rectangle internRectangle(int upperLeftX, int upperLeftY, int lowerRightX, int lowerRightY) throws InvalidDimensionsException {
+        return rectangles.intern(new RectangleKey(upperLeftX, upperLeftY, lowerRightX, lowerRightY),
+                () -> new Rectangle(internNode(upperLeftX, upperLeftY), internNode(lowerRightX, lowerRightY)));
+    }
+
+    /**
+     * @return Returns the canonical {@link Rectangle} equal to the provided one. The provided rectangle becomes canonical if none exists yet.
+     */
+    public Rectangle intern(Rectangle rectangle) {
+        RectangleKey key = new RectangleKey(rectangle.getLeftXLine(), rectangle.getUpperYLine(), rectangle.getRightXLine(), rectangle.getLowerYLine());
+        return rectangles.intern(key, () -> rectangle);
+    }
+
+    /**
+     * @return Returns the number of node entries currently held, including entries whose referent has not been purged yet.
+     */
+    public int nodeCount() {
+        nodes.expungeStaleEntries();
+        return nodes.size();
+    }
+
+    /**
+     * @return Returns the number of rectangle entries currently held, including entries whose referent has not been purged yet.
+     */
+    public int rectangleCount() {
+        rectangles.expungeStaleEntries();
+        return rectangles.size();
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    private static Long packCoordinates(int xCoordinate, int yCoordinate) {
+        return (long) xCoordinate << 32 | yCoordinate & 0xFFFFFFFFL;
+    }
+
+    /**
+     * A concurrent map from coordinate keys to weakly referenced canonical values.
+     */
+    private static class CanonicalMap<K, T> {
+        private final ConcurrentHashMap<K, CanonicalReference<K, T>> entries = new ConcurrentHashMap<>();
+        private final ReferenceQueue<T> collectedReferences = new ReferenceQueue<>();
+
+        private T intern(K key, Supplier<T> candidateSupplier) {
+            expungeStaleEntries();
+
+            T canonical = dereference(entries.get(key));
+            if (canonical != null) {
+                return canonical;
+            }
+
+            T candidate = candidateSupplier.get();
+            CanonicalReference<K, T> candidateReference = new CanonicalReference<>(key, candidate, collectedReferences);
+            while (true) {
+                CanonicalReference<K, T> existingReference = entries.putIfAbsent(key, candidateReference);
+                if (existingReference == null) {
+                    return candidate;
+                }
+
+                canonical = existingReference.get();
+                if (canonical != null) {
+                    return canonical;
+                }
+
+                //The existing entry was collected but not yet purged, so replace it with the candidate.
+                if (entries.replace(key, existingReference, candidateReference)) {
+                    return candidate;
+                }
+            }
+        }
+
+        private void expungeStaleEntries() {
+            Object collected;
+            while ((collected = collectedReferences.poll()) != null) {
+                CanonicalReference<?, ?> reference = (CanonicalReference<?, ?>) collected;
+                entries.remove(reference.key, reference);
+            }
+        }
+
+        private int size() {
+            return entries.size();
+        }
+
+        private T dereference(CanonicalReference<K, T> reference) {
+            return reference == null ? null : reference.get();
+        }
+    }
+
+    private static class CanonicalReference<K, T> extends WeakReference<T> {
+        private final K key;
+
+        private CanonicalReference(K key, T referent, ReferenceQueue<T> queue) {
+            super(referent, queue);
+            this.key = key;
+        }
+    }
+
+    private static class RectangleKey {
+        private final int upperLeftX;
+        private final int upperLeftY;
+        private final int lowerRightX;
+        private final int lowerRightY;
+
+        private RectangleKey(int upperLeftX, int upperLeftY, int lowerRightX, int lowerRightY) {
+            this.upperLeftX = upperLeftX;
+            this.upperLeftY = upperLeftY;
+            this.lowerRightX = lowerRightX;
+            this.lowerRightY = lowerRightY;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            return obj != null
+                    && obj.getClass().equals(RectangleKey.class)
+                    && this.upperLeftX == ((RectangleKey) obj).upperLeftX
+                    && this.upperLeftY == ((RectangleKey) obj).upperLeftY
+                    && this.lowerRightX == ((RectangleKey) obj).lowerRightX
+                    && this.lowerRightY == ((RectangleKey) obj).lowerRightY;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * (31 * upperLeftX + upperLeftY) + lowerRightX) + lowerRightY;
+        }
+    }
+}
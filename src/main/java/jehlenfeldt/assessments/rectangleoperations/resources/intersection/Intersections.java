@@ -30,4 +30,20 @@ public class Intersections {
                 ", intersectionNodes=" + intersectionNodes +
                 '}';
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj != null
+                && obj.getClass().equals(Intersections.class)
+                && this.intersectionType.equals(((Intersections) obj).intersectionType)
+                && this.intersectionNodes.equals(((Intersections) obj).intersectionNodes);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * intersectionType.hashCode() + intersectionNodes.hashCode();
+    }
 }
@@ -0,0 +1,34 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.intersection;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.LongNode;
+
+import java.util.List;
+
+/**
+ * The {@link Intersections} of two {@link jehlenfeldt.assessments.rectangleoperations.resources.LongRectangle}s.
+ */
+public class LongIntersections {
+    private final IntersectionType intersectionType;
+    private final List<LongNode> intersectionNodes;
+
+    public LongIntersections(IntersectionType intersectionType, List<LongNode> coordinates) {
+        this.intersectionType = intersectionType;
+        this.intersectionNodes = coordinates;
+    }
+
+    public IntersectionType getIntersectionType() {
+        return intersectionType;
+    }
+
+    public List<LongNode> getIntersectionNodes() {
+        return intersectionNodes;
+    }
+
+    @Override
+    public String toString() {
+        return "LongIntersections{" +
+                "intersectionType=" + intersectionType.toString() +
+                ", intersectionNodes=" + intersectionNodes +
+                '}';
+    }
+}
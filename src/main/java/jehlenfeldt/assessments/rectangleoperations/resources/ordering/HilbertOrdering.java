@@ -0,0 +1,157 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.ordering;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.store.RectangleStore;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Orders batches of rectangles along a Hilbert curve through their centers, so that rectangles close to each other in
+ * the plane end up close to each other in memory.
+ *
+ * Keys are built from the doubled center of every rectangle, which keeps them exact for odd widths and heights, taken
+ * relative to the lower left corner of the batch and scaled down to at most 31 bits per axis. Keys are sorted with a
+ * parallel least significant digit radix sort that is stable, so rectangles sharing a key keep their original order.
+ */
+public class HilbertOrdering {
+    private static final int BITS_PER_AXIS = 31;
+    private static final int DIGIT_BITS = 8;
+    private static final int DIGIT_COUNT = 1 << DIGIT_BITS;
+    private static final int MINIMUM_CHUNK_SIZE = 1 << 14;
+
+    private HilbertOrdering() {
+    }
+
+    public static Permutation order(List<Rectangle> rectangles) {
+        return order(RectangleStore.of(rectangles));
+    }
+
+    public static Permutation order(RectangleStore store) {
+        int count = store.size();
+        long[] centerX = new long[count];
+        long[] centerY = new long[count];
+        long minimumX = Long.MAX_VALUE;
+        long minimumY = Long.MAX_VALUE;
+        long maximumX = Long.MIN_VALUE;
+        long maximumY = Long.MIN_VALUE;
+        for (int index = 0; index < count; index++) {
+            centerX[index] = (long) store.getLeftXLine(index) + store.getRightXLine(index);
+            centerY[index] = (long) store.getLowerYLine(index) + store.getUpperYLine(index);
+            minimumX = Math.min(minimumX, centerX[index]);
+            minimumY = Math.min(minimumY, centerY[index]);
+            maximumX = Math.max(maximumX, centerX[index]);
+            maximumY = Math.max(maximumY, centerY[index]);
+        }
+
+        long span = count == 0 ? 0 : Math.max(maximumX - minimumX, maximumY - minimumY);
+        int shift = Math.max(0, (Long.SIZE - Long.numberOfLeadingZeros(span)) - BITS_PER_AXIS);
+        long originX = minimumX;
+        long originY = minimumY;
+
+        long[] keys = new long[count];
+        IntStream.range(0, count).parallel().forEach(index ->
+                keys[index] = hilbertKey((centerX[index] - originX) >>> shift, (centerY[index] - originY) >>> shift));
+
+        int[] order = radixSort(keys);
+        int[] inverse = new int[count];
+        IntStream.range(0, count).parallel().forEach(position -> inverse[order[position]] = position);
+        return new Permutation(order, inverse);
+    }
+
+    /**
+     * Maps a point of a 2^31 by 2^31 grid to its distance along the Hilbert curve through the grid.
+     *
+     * @return Returns a key in the range [0, 2^62).
+     */
+    static long hilbertKey(long x, long y) {
+        long key = 0;
+        for (long side = 1L << (BITS_PER_AXIS - 1); side > 0; side >>= 1) {
+            int quadrantX = (x & side) != 0 ? 1 : 0;
+            int quadrantY = (y & side) != 0 ? 1 : 0;
+            key += side * side * ((3 * quadrantX) ^ quadrantY);
+
+            //Rotate the quadrant so the lower bits are walked in the orientation of the sub-curve.
+            if (quadrantY == 0) {
+                if (quadrantX == 1) {
+                    x = side - 1 - x;
+                    y = side - 1 - y;
+                }
+                long swap = x;
+                x = y;
+                y = swap;
+            }
+        }
+        return key;
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    /**
+     * Sorts indexes by their non negative keys. Every pass counts digits per chunk in parallel, turns the counts into
+     * per chunk offsets and scatters the chunks in parallel, skipping digits above the largest key.
+     *
+     * @return Returns the indexes of the keys in ascending key order, ties in ascending index order.
+     */
+    private static int[] radixSort(long[] keys) {
+        int count = keys.length;
+        long maximumKey = 0;
+        for (long key : keys) {
+            maximumKey = Math.max(maximumKey, key);
+        }
+        int passes = (Long.SIZE - Long.numberOfLeadingZeros(maximumKey) + DIGIT_BITS - 1) / DIGIT_BITS;
+
+        int chunkCount = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), count / MINIMUM_CHUNK_SIZE));
+        int chunkSize = (count + chunkCount - 1) / Math.max(1, chunkCount);
+
+        long[] sourceKeys = keys.clone();
+        int[] sourceIndexes = IntStream.range(0, count).toArray();
+        long[] targetKeys = new long[count];
+        int[] targetIndexes = new int[count];
+        int[][] offsets = new int[chunkCount][DIGIT_COUNT];
+
+        for (int pass = 0; pass < passes; pass++) {
+            int digitShift = pass * DIGIT_BITS;
+            long[] passKeys = sourceKeys;
+            IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+                int[] histogram = offsets[chunk];
+                Arrays.fill(histogram, 0);
+                for (int position = chunk * chunkSize, end = Math.min(count, position + chunkSize); position < end; position++) {
+                    histogram[(int) (passKeys[position] >>> digitShift) & (DIGIT_COUNT - 1)]++;
+                }
+            });
+
+            int running = 0;
+            for (int digit = 0; digit < DIGIT_COUNT; digit++) {
+                for (int chunk = 0; chunk < chunkCount; chunk++) {
+                    int digitCount = offsets[chunk][digit];
+                    offsets[chunk][digit] = running;
+                    running += digitCount;
+                }
+            }
+
+            int[] passIndexes = sourceIndexes;
+            long[] passTargetKeys = targetKeys;
+            int[] passTargetIndexes = targetIndexes;
+            IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+                int[] next = offsets[chunk];
+                for (int position = chunk * chunkSize, end = Math.min(count, position + chunkSize); position < end; position++) {
+                    int destination = next[(int) (passKeys[position] >>> digitShift) & (DIGIT_COUNT - 1)]++;
+                    passTargetKeys[destination] = passKeys[position];
+                    passTargetIndexes[destination] = passIndexes[position];
+                }
+            });
+
+            targetKeys = sourceKeys;
+            targetIndexes = sourceIndexes;
+            sourceKeys = passTargetKeys;
+            sourceIndexes = passTargetIndexes;
+        }
+        return sourceIndexes;
+    }
+}
@@ -0,0 +1,74 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.ordering;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.store.RectangleStore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A reordering of a batch of rectangles together with its inverse, so that results computed on the reordered batch can
+ * be mapped back to the original indexes.
+ */
+public class Permutation {
+    private final int[] order;
+    private final int[] inverse;
+
+    /**
+     * @param order: For every new position, the original index placed there. Must contain every index exactly once.
+     */
+    Permutation(int[] order, int[] inverse) {
+        this.order = order;
+        this.inverse = inverse;
+    }
+
+    public int size() {
+        return order.length;
+    }
+
+    /**
+     * @return Returns the original index of the rectangle at the provided position of the reordered batch.
+     */
+    public int getOriginalIndex(int position) {
+        return order[position];
+    }
+
+    /**
+     * @return Returns the position in the reordered batch of the rectangle at the provided original index.
+     */
+    public int getPosition(int originalIndex) {
+        return inverse[originalIndex];
+    }
+
+    /**
+     * @return Returns a copy of the order, where element i holds the original index placed at position i.
+     */
+    public int[] toOrderArray() {
+        return order.clone();
+    }
+
+    /**
+     * @return Returns a new list holding the provided elements in the reordered sequence.
+     */
+    public <T> List<T> apply(List<T> elements) {
+        checkSize(elements.size());
+        List<T> reordered = new ArrayList<>(order.length);
+        for (int index : order) {
+            reordered.add(elements.get(index));
+        }
+        return reordered;
+    }
+
+    /**
+     * @return Returns a new store holding the rectangles of the provided store in the reordered sequence.
+     */
+    public RectangleStore apply(RectangleStore store) {
+        checkSize(store.size());
+        return store.permute(order);
+    }
+
+    private void checkSize(int size) {
+        if (size != order.length) {
+            throw new IllegalArgumentException("The permutation covers " + order.length + " elements, not " + size + ".");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.outline;
+
+/**
+ * Segment tree over the elementary intervals between consecutive sorted coordinates that tracks how many
+ * rectangles cover each interval and can list the uncovered parts of a range in output sensitive time.
+ */
+class CoverageTree {
+    private final int[] coordinates;
+    private final int intervalCount;
+    private final int[] coverCount;
+    private final boolean[] anyCovered;
+
+    /**
+     * @param coordinates: The sorted distinct coordinates. Interval i spans coordinates[i] to coordinates[i + 1].
+     */
+    CoverageTree(int[] coordinates) {
+        this.coordinates = coordinates;
+        this.intervalCount = Math.max(1, coordinates.length - 1);
+        this.coverCount = new int[4 * intervalCount];
+        this.anyCovered = new boolean[4 * intervalCount];
+    }
+
+    /**
+     * Adds the provided delta to the cover count of intervals firstInterval through lastInterval.
+     */
+    void add(int firstInterval, int lastInterval, int delta) {
+        add(1, 0, intervalCount - 1, firstInterval, lastInterval, delta);
+    }
+
+    /**
+     * Reports every maximal uncovered piece within intervals firstInterval through lastInterval to the collector as coordinates.
+     */
+    void collectUncovered(int firstInterval, int lastInterval, PieceCollector collector) {
+        collectUncovered(1, 0, intervalCount - 1, firstInterval, lastInterval, collector);
+    }
+
+    private void add(int node, int nodeFirst, int nodeLast, int firstInterval, int lastInterval, int delta) {
+        if (lastInterval < nodeFirst || nodeLast < firstInterval) {
+            return;
+        }
+
+        if (firstInterval <= nodeFirst && nodeLast <= lastInterval) {
+            coverCount[node] += delta;
+        } else {
+            int middle = (nodeFirst + nodeLast) >>> 1;
+            add(2 * node, nodeFirst, middle, firstInterval, lastInterval, delta);
+            add(2 * node + 1, middle + 1, nodeLast, firstInterval, lastInterval, delta);
+        }
+
+        anyCovered[node] = coverCount[node] > 0
+                || nodeFirst != nodeLast && (anyCovered[2 * node] || anyCovered[2 * node + 1]);
+    }
+
+    private void collectUncovered(int node, int nodeFirst, int nodeLast, int firstInterval, int lastInterval, PieceCollector collector) {
+        if (lastInterval < nodeFirst || nodeLast < firstInterval || coverCount[node] > 0) {
+            return;
+        }
+
+        if (!anyCovered[node]) {
+            collector.accept(coordinates[Math.max(nodeFirst, firstInterval)], coordinates[Math.min(nodeLast, lastInterval) + 1]);
+            return;
+        }
+
+        int middle = (nodeFirst + nodeLast) >>> 1;
+        collectUncovered(2 * node, nodeFirst, middle, firstInterval, lastInterval, collector);
+        collectUncovered(2 * node + 1, middle + 1, nodeLast, firstInterval, lastInterval, collector);
+    }
+
+    interface PieceCollector {
+        void accept(int start, int end);
+    }
+}
@@ -0,0 +1,69 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.outline;
+
+/**
+ * Segment tree over elementary intervals supporting "assign a value to a range" and "find the most recently assigned value
+ * at an interval". Sweeping edges in increasing coordinate order turns the point query into a nearest edge lookup.
+ */
+class NearestEdgeTree {
+    private final int intervalCount;
+    private final int[] assignedValue;
+    private final int[] assignedTime;
+    private int time;
+
+    NearestEdgeTree(int intervalCount) {
+        this.intervalCount = Math.max(1, intervalCount);
+        this.assignedValue = new int[4 * this.intervalCount];
+        this.assignedTime = new int[4 * this.intervalCount];
+    }
+
+    void assign(int firstInterval, int lastInterval, int value) {
+        time++;
+        assign(1, 0, intervalCount - 1, firstInterval, lastInterval, value);
+    }
+
+    /**
+     * @return Returns the latest value assigned to a range containing the interval, or -1 if none was assigned.
+     */
+    int find(int interval) {
+        int node = 1;
+        int nodeFirst = 0;
+        int nodeLast = intervalCount - 1;
+        int latestTime = 0;
+        int latestValue = -1;
+
+        while (true) {
+            if (assignedTime[node] > latestTime) {
+                latestTime = assignedTime[node];
+                latestValue = assignedValue[node];
+            }
+            if (nodeFirst == nodeLast) {
+                return latestValue;
+            }
+
+            int middle = (nodeFirst + nodeLast) >>> 1;
+            if (interval <= middle) {
+                node = 2 * node;
+                nodeLast = middle;
+            } else {
+                node = 2 * node + 1;
+                nodeFirst = middle + 1;
+            }
+        }
+    }
+
+    private void assign(int node, int nodeFirst, int nodeLast, int firstInterval, int lastInterval, int value) {
+        if (lastInterval < nodeFirst || nodeLast < firstInterval) {
+            return;
+        }
+
+        if (firstInterval <= nodeFirst && nodeLast <= lastInterval) {
+            assignedValue[node] = value;
+            assignedTime[node] = time;
+            return;
+        }
+
+        int middle = (nodeFirst + nodeLast) >>> 1;
+        assign(2 * node, nodeFirst, middle, firstInterval, lastInterval, value);
+        assign(2 * node + 1, middle + 1, nodeLast, firstInterval, lastInterval, value);
+    }
+}
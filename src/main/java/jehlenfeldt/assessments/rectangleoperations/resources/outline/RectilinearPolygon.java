@@ -0,0 +1,36 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.outline;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+
+import java.util.List;
+
+/**
+ * An axis aligned polygon made up of an outer boundary and any number of holes.
+ * The outer boundary runs counter-clockwise and every hole runs clockwise, so the covered area is always on the left
+ * of the boundary direction. Every listed {@link Node} is a corner; the closing edge back to the first node is implied.
+ */
+public class RectilinearPolygon {
+    private final List<Node> outerBoundary;
+    private final List<List<Node>> holes;
+
+    public RectilinearPolygon(List<Node> outerBoundary, List<List<Node>> holes) {
+        this.outerBoundary = outerBoundary;
+        this.holes = holes;
+    }
+
+    public List<Node> getOuterBoundary() {
+        return outerBoundary;
+    }
+
+    public List<List<Node>> getHoles() {
+        return holes;
+    }
+
+    @Override
+    public String toString() {
+        return "RectilinearPolygon{" +
+                "\n\touterBoundary=" + outerBoundary +
+                "\n\tholes=" + holes +
+                '}';
+    }
+}
@@ -0,0 +1,403 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.outline;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merges rectangles into the outlines of their union.
+ *
+ * Rectangles are treated as closed areas, so rectangles that overlap or share part of a border (the adjacencies reported by
+ * {@link Rectangle#findAnyAdjacencyWith}) end up in the same polygon. Rectangles that only share a corner are not adjacent
+ * and produce separate polygons that touch at that corner.
+ *
+ * The vertical contour edges are found by sweeping over x with a {@link CoverageTree} on the y-lines: at every x-line the
+ * parts of entering rectangles' left lines that were not covered before, and the parts of leaving rectangles' right lines that
+ * are no longer covered afterwards, lie on the outline. The horizontal edges are found the same way by sweeping over y.
+ * The edges are then chained into rings, and each hole is attached to its outer boundary by finding the nearest outline edge
+ * to its left. The whole process runs in O((N + V) log N) time for N rectangles and V outline vertices.
+ */
+public final class UnionOutlineGenerator {
+
+    private UnionOutlineGenerator() {
+    }
+
+    /**
+     * Generates the outlines of the union of the provided rectangles.
+     *
+     * @param rectangles: The rectangles to merge.
+     * @return Returns one {@link RectilinearPolygon} per connected group of rectangles.
+     */
+    public static List<RectilinearPolygon> generateOutlines(Collection<Rectangle> rectangles) {
+        int rectangleCount = rectangles.size();
+        int[] leftLines = new int[rectangleCount];
+        int[] rightLines = new int[rectangleCount];
+        int[] lowerLines = new int[rectangleCount];
+        int[] upperLines = new int[rectangleCount];
+        int index = 0;
+        for (Rectangle rectangle : rectangles) {
+            leftLines[index] = rectangle.getLeftXLine();
+            rightLines[index] = rectangle.getRightXLine();
+            lowerLines[index] = rectangle.getLowerYLine();
+            upperLines[index] = rectangle.getUpperYLine();
+            index++;
+        }
+
+        int[] xCoordinates = distinctSorted(leftLines, rightLines);
+        int[] yCoordinates = distinctSorted(lowerLines, upperLines);
+
+        EdgeList edges = new EdgeList();
+        sweepEdges(leftLines, rightLines, lowerLines, upperLines, yCoordinates, true, edges);
+        sweepEdges(lowerLines, upperLines, leftLines, rightLines, xCoordinates, false, edges);
+
+        return assemblePolygons(edges, yCoordinates);
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    //~~~~~~~~~~ Edge Sweep Methods ~~~~~~~~~~//
+    /**
+     * Sweeps across one axis and records every contour edge that is perpendicular to it. Edges are oriented so that the covered
+     * area lies on their left: for the x sweep entering edges run downwards and leaving edges upwards, for the y sweep
+     * entering edges run right and leaving edges left.
+     *
+     * @param sweepStarts: The line of each rectangle where the sweep enters it.
+     * @param sweepEnds: The line of each rectangle where the sweep leaves it.
+     * @param spanStarts: The lesser line of each rectangle on the other axis.
+     * @param spanEnds: The greater line of each rectangle on the other axis.
+     * @param spanCoordinates: The sorted distinct coordinates of the other axis.
+     * @param verticalEdges: True when sweeping over x and therefore producing vertical edges.
+     * @param edges: The list that found edges are appended to.
+     */
+    private static void sweepEdges(int[] sweepStarts, int[] sweepEnds, int[] spanStarts, int[] spanEnds, int[] spanCoordinates,
+                                   boolean verticalEdges, EdgeList edges) {
+        int rectangleCount = sweepStarts.length;
+        long[] events = new long[2 * rectangleCount];
+        for (int rectangle = 0; rectangle < rectangleCount; rectangle++) {
+            events[rectangle] = (long) sweepStarts[rectangle] << 32 | rectangle;
+            events[rectangleCount + rectangle] = (long) sweepEnds[rectangle] << 32 | rectangleCount + rectangle;
+        }
+        Arrays.sort(events);
+
+        CoverageTree coverageTree = new CoverageTree(spanCoordinates);
+        long[] enteringRanges = new long[rectangleCount];
+        long[] leavingRanges = new long[rectangleCount];
+        long[] mergedRanges = new long[rectangleCount];
+        int eventIndex = 0;
+
+        while (eventIndex < events.length) {
+            int sweepPosition = (int) (events[eventIndex] >>> 32);
+            int enteringCount = 0;
+            int leavingCount = 0;
+
+            //Gathering the interval ranges of every rectangle that starts or ends on this line.
+            for (; eventIndex < events.length && (int) (events[eventIndex] >>> 32) == sweepPosition; eventIndex++) {
+                int event = (int) events[eventIndex];
+                int rectangle = event < rectangleCount ? event : event - rectangleCount;
+                long range = (long) Arrays.binarySearch(spanCoordinates, spanStarts[rectangle]) << 32
+                        | Arrays.binarySearch(spanCoordinates, spanEnds[rectangle]) - 1;
+                if (event < rectangleCount) {
+                    enteringRanges[enteringCount++] = range;
+                } else {
+                    leavingRanges[leavingCount++] = range;
+                }
+            }
+
+            //Entering lines are on the outline wherever the area before this line was uncovered.
+            System.arraycopy(enteringRanges, 0, mergedRanges, 0, enteringCount);
+            int mergedCount = mergeRanges(mergedRanges, enteringCount);
+            collectOutlineEdges(coverageTree, mergedRanges, mergedCount, sweepPosition, verticalEdges, verticalEdges, edges);
+
+            for (int range = 0; range < leavingCount; range++) {
+                coverageTree.add((int) (leavingRanges[range] >>> 32), (int) leavingRanges[range], -1);
+            }
+            for (int range = 0; range < enteringCount; range++) {
+                coverageTree.add((int) (enteringRanges[range] >>> 32), (int) enteringRanges[range], 1);
+            }
+
+            //Leaving lines are on the outline wherever the area after this line is uncovered.
+            System.arraycopy(leavingRanges, 0, mergedRanges, 0, leavingCount);
+            mergedCount = mergeRanges(mergedRanges, leavingCount);
+            collectOutlineEdges(coverageTree, mergedRanges, mergedCount, sweepPosition, verticalEdges, !verticalEdges, edges);
+        }
+    }
+
+    /**
+     * Sorts the packed interval ranges and merges overlapping or touching ones in place.
+     *
+     * @return Returns the number of merged ranges.
+     */
+    private static int mergeRanges(long[] ranges, int rangeCount) {
+        if (rangeCount == 0) {
+            return 0;
+        }
+
+        Arrays.sort(ranges, 0, rangeCount);
+        int mergedCount = 0;
+        int currentFirst = (int) (ranges[0] >>> 32);
+        int currentLast = (int) ranges[0];
+        for (int range = 1; range < rangeCount; range++) {
+            int first = (int) (ranges[range] >>> 32);
+            int last = (int) ranges[range];
+            if (first <= currentLast + 1) {
+                currentLast = Math.max(currentLast, last);
+            } else {
+                ranges[mergedCount++] = (long) currentFirst << 32 | currentLast;
+                currentFirst = first;
+                currentLast = last;
+            }
+        }
+        ranges[mergedCount++] = (long) currentFirst << 32 | currentLast;
+        return mergedCount;
+    }
+
+    private static void collectOutlineEdges(CoverageTree coverageTree, long[] ranges, int rangeCount, int sweepPosition,
+                                            boolean verticalEdges, boolean runBackwards, EdgeList edges) {
+        EdgeCollector collector = new EdgeCollector(sweepPosition, verticalEdges, runBackwards, edges);
+        for (int range = 0; range < rangeCount; range++) {
+            coverageTree.collectUncovered((int) (ranges[range] >>> 32), (int) ranges[range], collector);
+        }
+        collector.flush();
+    }
+
+    //~~~~~~~~~~ Ring Assembly Methods ~~~~~~~~~~//
+    /**
+     * Chains the oriented edges into rings, separates outer boundaries from holes and groups them into polygons.
+     */
+    private static List<RectilinearPolygon> assemblePolygons(EdgeList edges, int[] yCoordinates) {
+        int edgeCount = edges.size();
+        Map<Long, int[]> outgoingEdges = new HashMap<>();
+        for (int edge = 0; edge < edgeCount; edge++) {
+            int[] outgoing = outgoingEdges.computeIfAbsent(packVertex(edges.startX[edge], edges.startY[edge]), key -> new int[] {-1, -1});
+            outgoing[outgoing[0] == -1 ? 0 : 1] = edge;
+        }
+
+        int[] ringOfEdge = new int[edgeCount];
+        Arrays.fill(ringOfEdge, -1);
+        List<List<Node>> rings = new ArrayList<>();
+        List<Boolean> ringIsHole = new ArrayList<>();
+
+        for (int firstEdge = 0; firstEdge < edgeCount; firstEdge++) {
+            if (ringOfEdge[firstEdge] != -1) {
+                continue;
+            }
+
+            int ring = rings.size();
+            List<Node> vertices = new ArrayList<>();
+            int edge = firstEdge;
+            do {
+                if (ringOfEdge[edge] != -1) {
+                    throw new IllegalStateException("Outline edges could not be chained into closed rings.");
+                }
+                ringOfEdge[edge] = ring;
+                vertices.add(new Node(edges.startX[edge], edges.startY[edge]));
+                edge = nextEdge(edges, edge, outgoingEdges.get(packVertex(edges.endX[edge], edges.endY[edge])));
+            } while (edge != firstEdge);
+
+            rings.add(vertices);
+            ringIsHole.add(isClockwise(vertices));
+        }
+
+        int[] shellOfRing = findShellOfEveryRing(edges, ringOfEdge, rings, ringIsHole, yCoordinates);
+
+        Map<Integer, List<List<Node>>> holesByShell = new HashMap<>();
+        for (int ring = 0; ring < rings.size(); ring++) {
+            if (ringIsHole.get(ring)) {
+                holesByShell.computeIfAbsent(shellOfRing[ring], key -> new ArrayList<>()).add(rings.get(ring));
+            }
+        }
+
+        List<RectilinearPolygon> polygons = new ArrayList<>();
+        for (int ring = 0; ring < rings.size(); ring++) {
+            if (!ringIsHole.get(ring)) {
+                polygons.add(new RectilinearPolygon(rings.get(ring), holesByShell.getOrDefault(ring, new ArrayList<>())));
+            }
+        }
+        return polygons;
+    }
+
+    /**
+     * Picks the edge that continues the ring. Where two rings meet at a corner, taking the left turn keeps them separate.
+     */
+    private static int nextEdge(EdgeList edges, int edge, int[] outgoing) {
+        if (outgoing == null) {
+            throw new IllegalStateException("Outline edges could not be chained into closed rings.");
+        }
+        if (outgoing[1] == -1) {
+            return outgoing[0];
+        }
+
+        long incomingX = Integer.signum(edges.endX[edge] - edges.startX[edge]);
+        long incomingY = Integer.signum(edges.endY[edge] - edges.startY[edge]);
+        int candidate = outgoing[0];
+        long outgoingX = Integer.signum(edges.endX[candidate] - edges.startX[candidate]);
+        long outgoingY = Integer.signum(edges.endY[candidate] - edges.startY[candidate]);
+        return incomingX * outgoingY - incomingY * outgoingX > 0 ? candidate : outgoing[1];
+    }
+
+    /**
+     * At the lowest of the leftmost vertices a counter-clockwise ring continues to the right and a clockwise ring continues upwards.
+     */
+    private static boolean isClockwise(List<Node> vertices) {
+        int lowestLeftmost = 0;
+        for (int vertex = 1; vertex < vertices.size(); vertex++) {
+            Node candidate = vertices.get(vertex);
+            Node current = vertices.get(lowestLeftmost);
+            if (candidate.getXCoordinate() < current.getXCoordinate()
+                    || candidate.getXCoordinate() == current.getXCoordinate() && candidate.getYCoordinate() < current.getYCoordinate()) {
+                lowestLeftmost = vertex;
+            }
+        }
+
+        Node next = vertices.get((lowestLeftmost + 1) % vertices.size());
+        return next.getXCoordinate() == vertices.get(lowestLeftmost).getXCoordinate();
+    }
+
+    /**
+     * Resolves the outer boundary of every ring. The area directly left of a hole's leftmost edge is covered, so the nearest outline
+     * edge in that direction belongs either to the enclosing outer boundary or to another hole inside the same outer boundary.
+     * Holes are resolved in order of their leftmost x-line, which guarantees that such a neighbouring hole is already resolved.
+     */
+    private static int[] findShellOfEveryRing(EdgeList edges, int[] ringOfEdge, List<List<Node>> rings, List<Boolean> ringIsHole, int[] yCoordinates) {
+        int[] shellOfRing = new int[rings.size()];
+        List<Long> sweepEvents = new ArrayList<>();
+        int[] queryIntervals = new int[rings.size()];
+
+        for (int ring = 0; ring < rings.size(); ring++) {
+            shellOfRing[ring] = ring;
+            if (ringIsHole.get(ring)) {
+                Node leftmost = rings.get(ring).get(0);
+                for (Node vertex : rings.get(ring)) {
+                    if (vertex.getXCoordinate() < leftmost.getXCoordinate()
+                            || vertex.getXCoordinate() == leftmost.getXCoordinate() && vertex.getYCoordinate() < leftmost.getYCoordinate()) {
+                        leftmost = vertex;
+                    }
+                }
+                queryIntervals[ring] = Arrays.binarySearch(yCoordinates, leftmost.getYCoordinate());
+                sweepEvents.add((long) leftmost.getXCoordinate() << 32 | ring);
+            }
+        }
+
+        //Edge events sort after queries on the same x-line.
+        for (int edge = 0; edge < edges.size(); edge++) {
+            if (edges.startX[edge] == edges.endX[edge]) {
+                sweepEvents.add((long) edges.startX[edge] << 32 | 1L << 31 | edge);
+            }
+        }
+        long[] sortedEvents = sweepEvents.stream().mapToLong(Long::longValue).sorted().toArray();
+
+        NearestEdgeTree nearestEdgeTree = new NearestEdgeTree(yCoordinates.length - 1);
+        for (long event : sortedEvents) {
+            if ((event & 1L << 31) == 0) {
+                int hole = (int) (event & Integer.MAX_VALUE);
+                int neighbour = nearestEdgeTree.find(queryIntervals[hole]);
+                if (neighbour == -1) {
+                    throw new IllegalStateException("A hole was found without an enclosing outline.");
+                }
+                shellOfRing[hole] = shellOfRing[neighbour];
+            } else {
+                int edge = (int) (event & Integer.MAX_VALUE);
+                int firstInterval = Arrays.binarySearch(yCoordinates, Math.min(edges.startY[edge], edges.endY[edge]));
+                int lastInterval = Arrays.binarySearch(yCoordinates, Math.max(edges.startY[edge], edges.endY[edge])) - 1;
+                nearestEdgeTree.assign(firstInterval, lastInterval, ringOfEdge[edge]);
+            }
+        }
+
+        return shellOfRing;
+    }
+
+    //~~~~~~~~~~ Shared Helpers ~~~~~~~~~~//
+    private static int[] distinctSorted(int[] firstValues, int[] secondValues) {
+        int[] values = Arrays.copyOf(firstValues, firstValues.length + secondValues.length);
+        System.arraycopy(secondValues, 0, values, firstValues.length, secondValues.length);
+        return Arrays.stream(values).sorted().distinct().toArray();
+    }
+
+    private static long packVertex(int xCoordinate, int yCoordinate) {
+        return (long) xCoordinate << 32 | yCoordinate & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Growable primitive storage for oriented outline edges.
+     */
+    private static class EdgeList {
+        private int[] startX = new int[16];
+        private int[] startY = new int[16];
+        private int[] endX = new int[16];
+        private int[] endY = new int[16];
+        private int size;
+
+        private void add(int edgeStartX, int edgeStartY, int edgeEndX, int edgeEndY) {
+            if (size == startX.length) {
+                startX = Arrays.copyOf(startX, 2 * size);
+                startY = Arrays.copyOf(startY, 2 * size);
+                endX = Arrays.copyOf(endX, 2 * size);
+                endY = Arrays.copyOf(endY, 2 * size);
+            }
+            startX[size] = edgeStartX;
+            startY[size] = edgeStartY;
+            endX[size] = edgeEndX;
+            endY[size] = edgeEndY;
+            size++;
+        }
+
+        private int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Joins contiguous uncovered pieces reported by the {@link CoverageTree} into maximal edges on a single sweep line.
+     */
+    private static class EdgeCollector implements CoverageTree.PieceCollector {
+        private final int sweepPosition;
+        private final boolean verticalEdges;
+        private final boolean runBackwards;
+        private final EdgeList edges;
+        private boolean pending;
+        private int pendingStart;
+        private int pendingEnd;
+
+        private EdgeCollector(int sweepPosition, boolean verticalEdges, boolean runBackwards, EdgeList edges) {
+            this.sweepPosition = sweepPosition;
+            this.verticalEdges = verticalEdges;
+            this.runBackwards = runBackwards;
+            this.edges = edges;
+        }
+
+        @Override
+        public void accept(int start, int end) {
+            if (pending && start == pendingEnd) {
+                pendingEnd = end;
+                return;
+            }
+            flush();
+            pending = true;
+            pendingStart = start;
+            pendingEnd = end;
+        }
+
+        private void flush() {
+            if (!pending) {
+                return;
+            }
+            int from = runBackwards ? pendingEnd : pendingStart;
+            int to = runBackwards ? pendingStart : pendingEnd;
+            if (verticalEdges) {
+                edges.add(sweepPosition, from, sweepPosition, to);
+            } else {
+                edges.add(from, sweepPosition, to, sweepPosition);
+            }
+            pending = false;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.overlap;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.store.RectangleStore;
+
+import java.util.stream.IntStream;
+
+/**
+ * The symmetric matrix of overlap areas between every pair of rectangles in a batch, held in a single primitive array.
+ * Element (i, j) is the area covered by both rectangle i and rectangle j, and the diagonal holds the area of each rectangle.
+ */
+public class OverlapAreaMatrix {
+    private static final int MAXIMUM_SIZE = 46_340;
+
+    private final int size;
+    private final long[] areas;
+
+    private OverlapAreaMatrix(int size, long[] areas) {
+        this.size = size;
+        this.areas = areas;
+    }
+
+    /**
+     * Fills the matrix for the provided rectangles. Rows are processed in left x-line order and split into contiguous
+     * blocks that run in parallel. Each row only visits the following rows whose left x-line lies before its right
+     * x-line and skips those that are apart in y, so disjoint pairs cost nothing. Every pair is visited by exactly one
+     * row and writes two distinct elements, so the blocks never write to the same element.
+     *
+     * @param store: The rectangles to compare.
+     * @param blockCount: The number of row blocks computed in parallel.
+     * @return Returns the filled matrix, indexed like the store.
+     */
+    public static OverlapAreaMatrix compute(RectangleStore store, int blockCount) {
+        if (blockCount < 1) {
+            throw new IllegalArgumentException("At least one row block is required.");
+        }
+        int size = store.size();
+        if (size > MAXIMUM_SIZE) {
+            throw new IllegalArgumentException("An overlap matrix can hold at most " + MAXIMUM_SIZE + " rectangles.");
+        }
+
+        long[] areas = new long[size * size];
+        int[] sweepOrder = store.indexesSortedByLeftXLine();
+        int effectiveBlockCount = Math.max(1, Math.min(blockCount, size));
+        int blockSize = (size + effectiveBlockCount - 1) / effectiveBlockCount;
+
+        IntStream.range(0, effectiveBlockCount).parallel().forEach(block -> {
+            for (int position = block * blockSize, end = Math.min(size, position + blockSize); position < end; position++) {
+                fillFromPosition(store, sweepOrder, position, areas);
+            }
+        });
+        return new OverlapAreaMatrix(size, areas);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Returns the area covered by both the rectangle at the first index and the rectangle at the second index.
+     */
+    public long getOverlapArea(int firstIndex, int secondIndex) {
+        return areas[firstIndex * size + secondIndex];
+    }
+
+    /**
+     * @return Returns the sum of all overlap areas between the rectangle at the provided index and every other rectangle.
+     */
+    public long getTotalOverlapArea(int index) {
+        long total = -areas[index * size + index];
+        for (int column = 0; column < size; column++) {
+            total += areas[index * size + column];
+        }
+        return total;
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    private static void fillFromPosition(RectangleStore store, int[] sweepOrder, int position, long[] areas) {
+        int size = sweepOrder.length;
+        int current = sweepOrder[position];
+        int lower = store.getLowerYLine(current);
+        int right = store.getRightXLine(current);
+        int upper = store.getUpperYLine(current);
+        areas[current * size + current] = ((long) right - store.getLeftXLine(current)) * ((long) upper - lower);
+
+        for (int candidatePosition = position + 1; candidatePosition < size; candidatePosition++) {
+            int candidate = sweepOrder[candidatePosition];
+            int candidateLeft = store.getLeftXLine(candidate);
+            if (candidateLeft >= right) {
+                break;
+            }
+            long height = (long) Math.min(upper, store.getUpperYLine(candidate)) - Math.max(lower, store.getLowerYLine(candidate));
+            if (height <= 0) {
+                continue;
+            }
+            long area = ((long) Math.min(right, store.getRightXLine(candidate)) - candidateLeft) * height;
+            areas[current * size + candidate] = area;
+            areas[candidate * size + current] = area;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.partition;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts every {@link PartitionWorker} in its own JVM on this machine and talks to it over the process pipes.
+ */
+public class LocalJvmWorkerLauncher implements WorkerLauncher {
+    private static final long SHUTDOWN_GRACE_SECONDS = 10;
+
+    private final String classPath;
+    private final List<String> jvmArguments;
+
+    /**
+     * @param classPath: The class path of the worker JVMs. It must contain {@link PartitionWorker}.
+     * @param jvmArguments: Extra JVM arguments such as heap settings passed to each worker.
+     */
+    public LocalJvmWorkerLauncher(String classPath, List<String> jvmArguments) {
+        this.classPath = classPath;
+        this.jvmArguments = jvmArguments;
+    }
+
+    /**
+     * Launches workers with the class path and no extra arguments of the current JVM.
+     */
+    public LocalJvmWorkerLauncher() {
+        this(System.getProperty("java.class.path"), new ArrayList<>());
+    }
+
+    @Override
+    public WorkerConnection launch() throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(jvmArguments);
+        command.add("-cp");
+        command.add(classPath);
+        command.add(PartitionWorker.class.getName());
+
+        Process process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        return new ProcessWorkerConnection(process);
+    }
+
+    private static class ProcessWorkerConnection implements WorkerConnection {
+        private final Process process;
+
+        private ProcessWorkerConnection(Process process) {
+            this.process = process;
+        }
+
+        @Override
+        public OutputStream getRequestStream() {
+            return process.getOutputStream();
+        }
+
+        @Override
+        public InputStream getResponseStream() {
+            return process.getInputStream();
+        }
+
+        @Override
+        public void close() throws IOException {
+            process.getOutputStream().close();
+            try {
+                if (!process.waitFor(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
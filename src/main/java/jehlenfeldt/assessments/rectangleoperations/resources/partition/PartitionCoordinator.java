@@ -0,0 +1,206 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.partition;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.PartitionFailedException;
+import jehlenfeldt.assessments.rectangleoperations.resources.relationship.RelationshipRecord;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Computes the intersection, containment and adjacency relationships of a large dataset by splitting it into spatial tiles
+ * and handing the tiles to separate worker processes.
+ *
+ * Each rectangle is sent to every tile its area touches, so rectangles crossing tile borders are replicated as halos.
+ * Workers only report pairs whose shared area starts in their own tile (see {@link PartitionWorker}), which lets the
+ * results be merged without any duplicates.
+ */
+public class PartitionCoordinator {
+    private final int tileColumns;
+    private final int tileRows;
+    private final int workerCount;
+    private final WorkerLauncher workerLauncher;
+
+    /**
+     * @param tileColumns: The number of tile columns to split the dataset into.
+     * @param tileRows: The number of tile rows to split the dataset into.
+     * @param workerCount: The number of workers processing tiles concurrently.
+     * @param workerLauncher: Starts the workers and opens connections to them.
+     */
+    public PartitionCoordinator(int tileColumns, int tileRows, int workerCount, WorkerLauncher workerLauncher) {
+        if (tileColumns < 1 || tileRows < 1 || workerCount < 1) {
+            throw new IllegalArgumentException("Tile counts and worker count must all be at least 1.");
+        }
+        this.tileColumns = tileColumns;
+        this.tileRows = tileRows;
+        this.workerCount = workerCount;
+        this.workerLauncher = workerLauncher;
+    }
+
+    /**
+     * Creates a coordinator whose workers run as separate JVMs on this machine.
+     */
+    public PartitionCoordinator(int tileColumns, int tileRows, int workerCount) {
+        this(tileColumns, tileRows, workerCount, new LocalJvmWorkerLauncher());
+    }
+
+    /**
+     * Computes the relationships between every pair of rectangles in the dataset whose areas share at least one point.
+     *
+     * @param rectangles: The dataset. A rectangle is identified in the results by its index in this list.
+     * @return Returns one {@link RelationshipRecord} per related pair with the smaller index first, ordered by index.
+     */
+    public List<RelationshipRecord> computeRelationships(List<Rectangle> rectangles) {
+        if (rectangles.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<TileRequest> tiles = partition(rectangles);
+
+        List<List<TileRequest>> tilesPerWorker = new ArrayList<>();
+        int activeWorkers = Math.min(workerCount, tiles.size());
+        for (int worker = 0; worker < activeWorkers; worker++) {
+            tilesPerWorker.add(new ArrayList<>());
+        }
+        for (int tile = 0; tile < tiles.size(); tile++) {
+            tilesPerWorker.get(tile % activeWorkers).add(tiles.get(tile));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(activeWorkers);
+        try {
+            List<Future<List<RelationshipRecord>>> workerResults = new ArrayList<>();
+            for (List<TileRequest> workerTiles : tilesPerWorker) {
+                workerResults.add(executor.submit(() -> runWorker(workerTiles)));
+            }
+
+            List<RelationshipRecord> records = new ArrayList<>();
+            for (Future<List<RelationshipRecord>> workerResult : workerResults) {
+                records.addAll(workerResult.get());
+            }
+            records.sort(Comparator.comparingInt(RelationshipRecord::getFirstIndex).thenComparingInt(RelationshipRecord::getSecondIndex));
+            return records;
+
+        } catch (ExecutionException e) {
+            throw new PartitionFailedException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PartitionFailedException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Splits the dataset into non-empty tiles, replicating every rectangle into all tiles its area touches.
+     *
+     * @param rectangles: The dataset to split.
+     * @return Returns a {@link TileRequest} for every tile that received at least one rectangle.
+     */
+    public List<TileRequest> partition(List<Rectangle> rectangles) {
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (Rectangle rectangle : rectangles) {
+            minX = Math.min(minX, rectangle.getLeftXLine());
+            minY = Math.min(minY, rectangle.getLowerYLine());
+            maxX = Math.max(maxX, rectangle.getRightXLine());
+            maxY = Math.max(maxY, rectangle.getUpperYLine());
+        }
+        TileGrid grid = TileGrid.covering(minX, minY, maxX, maxY, tileColumns, tileRows);
+
+        //Counting the rectangles of every tile first so that the primitive columns can be allocated at their final size.
+        int[] tileSizes = new int[grid.getTileCount()];
+        for (Rectangle rectangle : rectangles) {
+            forEachTouchedTile(grid, rectangle, tile -> tileSizes[tile]++);
+        }
+
+        int[][] ids = new int[tileSizes.length][];
+        int[][] leftLines = new int[tileSizes.length][];
+        int[][] lowerLines = new int[tileSizes.length][];
+        int[][] rightLines = new int[tileSizes.length][];
+        int[][] upperLines = new int[tileSizes.length][];
+        for (int tile = 0; tile < tileSizes.length; tile++) {
+            ids[tile] = new int[tileSizes[tile]];
+            leftLines[tile] = new int[tileSizes[tile]];
+            lowerLines[tile] = new int[tileSizes[tile]];
+            rightLines[tile] = new int[tileSizes[tile]];
+            upperLines[tile] = new int[tileSizes[tile]];
+        }
+
+        int[] filled = new int[tileSizes.length];
+        for (int index = 0; index < rectangles.size(); index++) {
+            Rectangle rectangle = rectangles.get(index);
+            int id = index;
+            forEachTouchedTile(grid, rectangle, tile -> {
+                int slot = filled[tile]++;
+                ids[tile][slot] = id;
+                leftLines[tile][slot] = rectangle.getLeftXLine();
+                lowerLines[tile][slot] = rectangle.getLowerYLine();
+                rightLines[tile][slot] = rectangle.getRightXLine();
+                upperLines[tile][slot] = rectangle.getUpperYLine();
+            });
+        }
+
+        List<TileRequest> tiles = new ArrayList<>();
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int column = 0; column < grid.getColumns(); column++) {
+                int tile = grid.tileOf(column, row);
+                if (tileSizes[tile] > 0) {
+                    tiles.add(new TileRequest(grid.ownedMinX(column), grid.ownedMinY(row), grid.ownedMaxX(column), grid.ownedMaxY(row),
+                            ids[tile], leftLines[tile], lowerLines[tile], rightLines[tile], upperLines[tile]));
+                }
+            }
+        }
+        return tiles;
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    private static void forEachTouchedTile(TileGrid grid, Rectangle rectangle, TileConsumer consumer) {
+        for (int row = grid.rowOf(rectangle.getLowerYLine()); row <= grid.rowOf(rectangle.getUpperYLine()); row++) {
+            for (int column = grid.columnOf(rectangle.getLeftXLine()); column <= grid.columnOf(rectangle.getRightXLine()); column++) {
+                consumer.accept(grid.tileOf(column, row));
+            }
+        }
+    }
+
+    /**
+     * Launches one worker, streams it all of its tiles one at a time and collects the responses before shutting it down.
+     */
+    private List<RelationshipRecord> runWorker(List<TileRequest> workerTiles) throws IOException {
+        List<RelationshipRecord> records = new ArrayList<>();
+        try (WorkerConnection connection = workerLauncher.launch()) {
+            DataOutputStream requests = new DataOutputStream(new BufferedOutputStream(connection.getRequestStream()));
+            DataInputStream responses = new DataInputStream(new BufferedInputStream(connection.getResponseStream()));
+
+            for (TileRequest tile : workerTiles) {
+                PartitionProtocol.writeTileRequest(requests, tile);
+                requests.flush();
+                PartitionProtocol.readTileResponse(responses, records::add);
+            }
+
+            PartitionProtocol.writeShutdown(requests);
+            requests.flush();
+        }
+        return records;
+    }
+
+    @FunctionalInterface
+    private interface TileConsumer {
+        void accept(int tile);
+    }
+}
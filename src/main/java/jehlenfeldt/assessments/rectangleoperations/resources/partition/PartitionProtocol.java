@@ -0,0 +1,104 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.partition;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.relationship.RelationshipRecord;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * The stream protocol spoken between a {@link PartitionCoordinator} and its {@link PartitionWorker}s.
+ * It only relies on a pair of byte streams, so the same messages work over pipes, local sockets or remote connections.
+ *
+ * Coordinator to worker, all values big-endian ints:
+ *  TILE_REQUEST, ownedMinX, ownedMinY, ownedMaxX, ownedMaxY, count, then count times: id, left, lower, right, upper
+ *  SHUTDOWN
+ *
+ * Worker to coordinator, once per tile request:
+ *  Any number of records (int firstId, int secondId, long relationshipCode) followed by END_OF_TILE in place of a firstId.
+ */
+public final class PartitionProtocol {
+    public static final int SHUTDOWN = 0;
+    public static final int TILE_REQUEST = 1;
+    public static final int END_OF_TILE = -1;
+
+    private PartitionProtocol() {
+    }
+
+    public static void writeTileRequest(DataOutput output, TileRequest request) throws IOException {
+        output.writeInt(TILE_REQUEST);
+        output.writeInt(request.getOwnedMinX());
+        output.writeInt(request.getOwnedMinY());
+        output.writeInt(request.getOwnedMaxX());
+        output.writeInt(request.getOwnedMaxY());
+        output.writeInt(request.size());
+        for (int index = 0; index < request.size(); index++) {
+            output.writeInt(request.getId(index));
+            output.writeInt(request.getLeftXLine(index));
+            output.writeInt(request.getLowerYLine(index));
+            output.writeInt(request.getRightXLine(index));
+            output.writeInt(request.getUpperYLine(index));
+        }
+    }
+
+    public static void writeShutdown(DataOutput output) throws IOException {
+        output.writeInt(SHUTDOWN);
+    }
+
+    /**
+     * Reads the next message sent by the coordinator.
+     *
+     * @return Returns the next {@link TileRequest}, or null once the coordinator has asked the worker to shut down.
+     */
+    public static TileRequest readTileRequest(DataInput input) throws IOException {
+        int messageType = input.readInt();
+        if (messageType == SHUTDOWN) {
+            return null;
+        }
+        if (messageType != TILE_REQUEST) {
+            throw new IOException("Unknown partition message type " + messageType);
+        }
+
+        int ownedMinX = input.readInt();
+        int ownedMinY = input.readInt();
+        int ownedMaxX = input.readInt();
+        int ownedMaxY = input.readInt();
+        int count = input.readInt();
+        int[] ids = new int[count];
+        int[] leftLines = new int[count];
+        int[] lowerLines = new int[count];
+        int[] rightLines = new int[count];
+        int[] upperLines = new int[count];
+        for (int index = 0; index < count; index++) {
+            ids[index] = input.readInt();
+            leftLines[index] = input.readInt();
+            lowerLines[index] = input.readInt();
+            rightLines[index] = input.readInt();
+            upperLines[index] = input.readInt();
+        }
+        return new TileRequest(ownedMinX, ownedMinY, ownedMaxX, ownedMaxY, ids, leftLines, lowerLines, rightLines, upperLines);
+    }
+
+    public static void writeRecord(DataOutput output, int firstId, int secondId, long relationshipCode) throws IOException {
+        output.writeInt(firstId);
+        output.writeInt(secondId);
+        output.writeLong(relationshipCode);
+    }
+
+    public static void writeEndOfTile(DataOutput output) throws IOException {
+        output.writeInt(END_OF_TILE);
+    }
+
+    /**
+     * Reads every record of one tile response and hands it to the consumer.
+     */
+    public static void readTileResponse(DataInput input, Consumer<RelationshipRecord> consumer) throws IOException {
+        int firstId;
+        while ((firstId = input.readInt()) != END_OF_TILE) {
+            int secondId = input.readInt();
+            long relationshipCode = input.readLong();
+            consumer.accept(new RelationshipRecord(firstId, secondId, relationshipCode));
+        }
+    }
+}
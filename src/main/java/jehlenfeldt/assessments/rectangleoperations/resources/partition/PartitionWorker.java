@@ -0,0 +1,86 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.partition;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.relationship.RelationshipClassifier;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Worker side of the tiled partitioning. Reads {@link TileRequest}s from its input stream and answers each one with the
+ * relationships found inside the tile, following {@link PartitionProtocol}.
+ *
+ * A pair of rectangles is only reported by the tile that owns the lower left corner of the area the two rectangles share.
+ * Every pair with any relationship shares at least one point, and both rectangles are sent to the tile owning that corner,
+ * so each pair is reported exactly once across all tiles.
+ */
+public class PartitionWorker {
+
+    /**
+     * Entry point used when the worker runs in its own JVM. Communicates over standard input and output.
+     */
+    public static void main(String[] args) throws IOException {
+        serve(System.in, System.out);
+    }
+
+    /**
+     * Answers tile requests until the coordinator sends a shutdown message.
+     */
+    public static void serve(InputStream inputStream, OutputStream outputStream) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream));
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+
+        TileRequest request;
+        while ((request = PartitionProtocol.readTileRequest(input)) != null) {
+            processTile(request, output);
+            PartitionProtocol.writeEndOfTile(output);
+            output.flush();
+        }
+    }
+
+    /**
+     * Finds every pair of rectangles in the tile whose areas share a point, using a sweep over the left x-lines,
+     * and writes the relationships owned by this tile. The rectangle with the smaller id is always the first of a pair.
+     */
+    public static void processTile(TileRequest request, DataOutputStream output) throws IOException {
+        int count = request.size();
+        long[] sweepOrder = new long[count];
+        for (int index = 0; index < count; index++) {
+            sweepOrder[index] = (long) request.getLeftXLine(index) << 32 | index;
+        }
+        Arrays.sort(sweepOrder);
+
+        for (int position = 0; position < count; position++) {
+            int current = (int) sweepOrder[position];
+            for (int candidatePosition = position + 1; candidatePosition < count; candidatePosition++) {
+                int candidate = (int) sweepOrder[candidatePosition];
+                if (request.getLeftXLine(candidate) > request.getRightXLine(current)) {
+                    break;
+                }
+                if (request.getLowerYLine(candidate) > request.getUpperYLine(current) || request.getLowerYLine(current) > request.getUpperYLine(candidate)) {
+                    continue;
+                }
+
+                int referenceX = request.getLeftXLine(candidate);
+                int referenceY = Math.max(request.getLowerYLine(current), request.getLowerYLine(candidate));
+                if (request.owns(referenceX, referenceY)) {
+                    writeRelationship(request, current, candidate, output);
+                }
+            }
+        }
+    }
+
+    private static void writeRelationship(TileRequest request, int current, int candidate, DataOutputStream output) throws IOException {
+        int first = request.getId(current) < request.getId(candidate) ? current : candidate;
+        int second = first == current ? candidate : current;
+        long relationshipCode = RelationshipClassifier.classify(
+                request.getLeftXLine(first), request.getLowerYLine(first), request.getRightXLine(first), request.getUpperYLine(first),
+                request.getLeftXLine(second), request.getLowerYLine(second), request.getRightXLine(second), request.getUpperYLine(second));
+        PartitionProtocol.writeRecord(output, request.getId(first), request.getId(second), relationshipCode);
+    }
+}
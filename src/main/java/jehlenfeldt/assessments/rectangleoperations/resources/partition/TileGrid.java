@@ -0,0 +1,87 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.partition;
+
+/**
+ * Splits the plane into a fixed number of equally sized tiles. Every point is owned by exactly one tile: points beyond
+ * the outer tiles are owned by the nearest tile, so the outer tiles extend to the int limits.
+ */
+public class TileGrid {
+    private final int originX;
+    private final int originY;
+    private final long tileWidth;
+    private final long tileHeight;
+    private final int columns;
+    private final int rows;
+
+    public TileGrid(int originX, int originY, long tileWidth, long tileHeight, int columns, int rows) {
+        if (tileWidth < 1 || tileHeight < 1 || columns < 1 || rows < 1) {
+            throw new IllegalArgumentException("Tile dimensions and counts must all be at least 1.");
+        }
+        this.originX = originX;
+        this.originY = originY;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    /**
+     * Creates a grid of the provided number of tiles covering the bounding box given by the inclusive coordinate ranges.
+     */
+    public static TileGrid covering(int minX, int minY, int maxX, int maxY, int columns, int rows) {
+        long tileWidth = ((long) maxX - minX + columns) / columns;
+        long tileHeight = ((long) maxY - minY + rows) / rows;
+        return new TileGrid(minX, minY, tileWidth, tileHeight, columns, rows);
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getTileCount() {
+        return columns * rows;
+    }
+
+    public int columnOf(int xCoordinate) {
+        return (int) Math.max(0, Math.min(columns - 1, Math.floorDiv((long) xCoordinate - originX, tileWidth)));
+    }
+
+    public int rowOf(int yCoordinate) {
+        return (int) Math.max(0, Math.min(rows - 1, Math.floorDiv((long) yCoordinate - originY, tileHeight)));
+    }
+
+    public int tileOf(int column, int row) {
+        return row * columns + column;
+    }
+
+    /**
+     * @return Returns the smallest x coordinate owned by tiles in the provided column.
+     */
+    public int ownedMinX(int column) {
+        return column == 0 ? Integer.MIN_VALUE : (int) (originX + column * tileWidth);
+    }
+
+    /**
+     * @return Returns the largest x coordinate owned by tiles in the provided column.
+     */
+    public int ownedMaxX(int column) {
+        return column == columns - 1 ? Integer.MAX_VALUE : (int) (originX + (column + 1) * tileWidth - 1);
+    }
+
+    /**
+     * @return Returns the smallest y coordinate owned by tiles in the provided row.
+     */
+    public int ownedMinY(int row) {
+        return row == 0 ? Integer.MIN_VALUE : (int) (originY + row * tileHeight);
+    }
+
+    /**
+     * @return Returns the largest y coordinate owned by tiles in the provided row.
+     */
+    public int ownedMaxY(int row) {
+        return row == rows - 1 ? Integer.MAX_VALUE : (int) (originY + (row + 1) * tileHeight - 1);
+    }
+}
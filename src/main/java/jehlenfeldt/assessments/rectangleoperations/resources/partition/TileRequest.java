@@ -0,0 +1,77 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.partition;
+
+/**
+ * The rectangles sent to a worker for one tile, stored as primitive columns. Rectangles are included when their area touches
+ * the tile, which replicates rectangles crossing tile borders as halos. The owned region decides which tile reports a pair.
+ */
+public class TileRequest {
+    private final int ownedMinX;
+    private final int ownedMinY;
+    private final int ownedMaxX;
+    private final int ownedMaxY;
+    private final int[] ids;
+    private final int[] leftLines;
+    private final int[] lowerLines;
+    private final int[] rightLines;
+    private final int[] upperLines;
+
+    public TileRequest(int ownedMinX, int ownedMinY, int ownedMaxX, int ownedMaxY,
+                       int[] ids, int[] leftLines, int[] lowerLines, int[] rightLines, int[] upperLines) {
+        this.ownedMinX = ownedMinX;
+        this.ownedMinY = ownedMinY;
+        this.ownedMaxX = ownedMaxX;
+        this.ownedMaxY = ownedMaxY;
+        this.ids = ids;
+        this.leftLines = leftLines;
+        this.lowerLines = lowerLines;
+        this.rightLines = rightLines;
+        this.upperLines = upperLines;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * @return Returns true if the point lies within the region owned by this tile.
+     */
+    public boolean owns(int xCoordinate, int yCoordinate) {
+        return xCoordinate >= ownedMinX && xCoordinate <= ownedMaxX && yCoordinate >= ownedMinY && yCoordinate <= ownedMaxY;
+    }
+
+    public int getOwnedMinX() {
+        return ownedMinX;
+    }
+
+    public int getOwnedMinY() {
+        return ownedMinY;
+    }
+
+    public int getOwnedMaxX() {
+        return ownedMaxX;
+    }
+
+    public int getOwnedMaxY() {
+        return ownedMaxY;
+    }
+
+    public int getId(int index) {
+        return ids[index];
+    }
+
+    public int getLeftXLine(int index) {
+        return leftLines[index];
+    }
+
+    public int getLowerYLine(int index) {
+        return lowerLines[index];
+    }
+
+    public int getRightXLine(int index) {
+        return rightLines[index];
+    }
+
+    public int getUpperYLine(int index) {
+        return upperLines[index];
+    }
+}
@@ -0,0 +1,21 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.partition;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A bidirectional byte stream to a single {@link PartitionWorker}. Implementations decide where the worker runs.
+ */
+public interface WorkerConnection extends Closeable {
+
+    /**
+     * @return Returns the stream the coordinator writes tile requests to.
+     */
+    OutputStream getRequestStream();
+
+    /**
+     * @return Returns the stream the coordinator reads tile responses from.
+     */
+    InputStream getResponseStream();
+}
@@ -0,0 +1,8 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.partition;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface WorkerLauncher {
+    WorkerConnection launch() throws IOException;
+}
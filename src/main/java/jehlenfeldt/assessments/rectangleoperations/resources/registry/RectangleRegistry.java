@@ -0,0 +1,213 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.registry;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread safe registry of rectangles with stable ids, built for many readers and few writers.
+ *
+ * Rectangles are spread over stripes by id. Every stripe holds an immutable map that writers replace with an updated copy
+ * while holding that stripe's lock, so writers to different stripes never block each other and readers never lock.
+ * {@link #snapshot()} reads every stripe optimistically and validates against write counters in the same way as a
+ * StampedLock optimistic read, falling back to briefly locking all stripes if writers keep interfering.
+ */
+public class RectangleRegistry {
+    private static final int DEFAULT_STRIPE_COUNT = 16;
+    private static final int OPTIMISTIC_ATTEMPTS = 4;
+    private static final long ID_MIXING_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final ReentrantLock[] stripeLocks;
+    private final AtomicReferenceArray<Map<Long, Rectangle>> stripes;
+    private final AtomicLong nextId = new AtomicLong();
+    private final AtomicLong startedWrites = new AtomicLong();
+    private final AtomicLong finishedWrites = new AtomicLong();
+    private volatile RegistrySnapshot cachedSnapshot;
+
+    /**
+     * @param stripeCount: The number of independently locked stripes. More stripes allow more concurrent writers.
+     */
+    public RectangleRegistry(int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("A registry needs at least one stripe.");
+        }
+        this.stripeLocks = new ReentrantLock[stripeCount];
+        this.stripes = new AtomicReferenceArray<>(stripeCount);
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            stripeLocks[stripe] = new ReentrantLock();
+            stripes.set(stripe, Collections.emptyMap());
+        }
+    }
+
+    public RectangleRegistry() {
+        this(DEFAULT_STRIPE_COUNT);
+    }
+
+    /**
+     * Registers a rectangle under a new id.
+     *
+     * @return Returns the id assigned to the rectangle. Ids are never reused.
+     */
+    public long register(Rectangle rectangle) {
+        long id = nextId.getAndIncrement();
+        write(id, rectangle, true);
+        return id;
+    }
+
+    /**
+     * Replaces the rectangle registered under the provided id.
+     *
+     * @return Returns true if the id was registered and has been updated.
+     */
+    public boolean update(long id, Rectangle rectangle) {
+        return write(id, rectangle, false) != null;
+    }
+
+    /**
+     * Removes the rectangle registered under the provided id.
+     *
+     * @return Returns the removed rectangle, or null if the id was not registered.
+     */
+    public Rectangle remove(long id) {
+        return write(id, null, false);
+    }
+
+    /**
+     * Looks up a single rectangle without locking.
+     *
+     * @return Returns the rectangle registered under the provided id, or null if there is none.
+     */
+    public Rectangle get(long id) {
+        return stripes.get(stripeOf(id)).get(id);
+    }
+
+    public int size() {
+        return snapshot().size();
+    }
+
+    /**
+     * Returns a consistent view of every registered rectangle. The view is cached and reused until the next write.
+     *
+     * @return Returns the current {@link RegistrySnapshot}.
+     */
+    public RegistrySnapshot snapshot() {
+        for (int attempt = 0; attempt < OPTIMISTIC_ATTEMPTS; attempt++) {
+            long version = finishedWrites.get();
+            RegistrySnapshot cached = cachedSnapshot;
+            if (cached != null && cached.getVersion() == version && startedWrites.get() == version) {
+                return cached;
+            }
+
+            List<Map<Long, Rectangle>> stripeMaps = readStripes();
+
+            //If no write started after the version was read then no write overlapped with reading the stripes.
+            if (startedWrites.get() == version) {
+                RegistrySnapshot snapshot = buildSnapshot(version, stripeMaps);
+                cachedSnapshot = snapshot;
+                return snapshot;
+            }
+        }
+
+        return lockedSnapshot();
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    /**
+     * Copies the stripe holding the id, applies the change and publishes the copy.
+     *
+     * @param rectangle: The new rectangle, or null to remove the id.
+     * @param insert: True if the id is new and should be added rather than replaced.
+     * @return Returns the rectangle previously registered under the id, or null if there was none.
+     */
+    private Rectangle write(long id, Rectangle rectangle, boolean insert) {
+        int stripe = stripeOf(id);
+        startedWrites.incrementAndGet();
+        stripeLocks[stripe].lock();
+        try {
+            Map<Long, Rectangle> current = stripes.get(stripe);
+            Rectangle previous = current.get(id);
+            if (!insert && previous == null) {
+                return null;
+            }
+
+            Map<Long, Rectangle> updated = new HashMap<>(current);
+            if (rectangle == null) {
+                updated.remove(id);
+            } else {
+                updated.put(id, rectangle);
+            }
+            stripes.set(stripe, Collections.unmodifiableMap(updated));
+            return previous;
+        } finally {
+            stripeLocks[stripe].unlock();
+            finishedWrites.incrementAndGet();
+        }
+    }
+
+    private RegistrySnapshot lockedSnapshot() {
+        for (ReentrantLock stripeLock : stripeLocks) {
+            stripeLock.lock();
+        }
+        try {
+            return buildSnapshot(-1, readStripes());
+        } finally {
+            for (ReentrantLock stripeLock : stripeLocks) {
+                stripeLock.unlock();
+            }
+        }
+    }
+
+    private List<Map<Long, Rectangle>> readStripes() {
+        List<Map<Long, Rectangle>> stripeMaps = new ArrayList<>(stripes.length());
+        for (int stripe = 0; stripe < stripes.length(); stripe++) {
+            stripeMaps.add(stripes.get(stripe));
+        }
+        return stripeMaps;
+    }
+
+    private static RegistrySnapshot buildSnapshot(long version, List<Map<Long, Rectangle>> stripeMaps) {
+        int size = 0;
+        for (Map<Long, Rectangle> stripeMap : stripeMaps) {
+            size += stripeMap.size();
+        }
+
+        long[] ids = new long[size];
+        int position = 0;
+        for (Map<Long, Rectangle> stripeMap : stripeMaps) {
+            for (Long id : stripeMap.keySet()) {
+                ids[position++] = id;
+            }
+        }
+        Arrays.sort(ids);
+
+        Rectangle[] rectangles = new Rectangle[size];
+        for (position = 0; position < size; position++) {
+            rectangles[position] = stripeMaps.get(stripeOf(ids[position], stripeMaps.size())).get(ids[position]);
+        }
+        return new RegistrySnapshot(version, ids, rectangles);
+    }
+
+    private int stripeOf(long id) {
+        return stripeOf(id, stripeLocks.length);
+    }
+
+    /**
+     * Picks the stripe from the high bits of a multiplicative hash of the id. Taking the id modulo the stripe count would
+     * leave every id in a stripe with the same low bits, which crowds them into a few buckets of the stripe's map.
+     */
+    private static int stripeOf(long id, int stripeCount) {
+        return (int) (((id * ID_MIXING_MULTIPLIER) >>> 32) % stripeCount);
+    }
+}
@@ -0,0 +1,125 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.registry;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.Adjacency;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.IntersectionType;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.Intersections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, consistent view of a {@link RectangleRegistry} at a single point in time.
+ * Queries run the existing {@link Rectangle} operations against every registered rectangle and report results by id in ascending order.
+ */
+public class RegistrySnapshot {
+    private final long version;
+    private final long[] ids;
+    private final Rectangle[] rectangles;
+
+    RegistrySnapshot(long version, long[] ids, Rectangle[] rectangles) {
+        this.version = version;
+        this.ids = ids;
+        this.rectangles = rectangles;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * @return Returns the rectangle registered under the provided id, or null if there is none.
+     */
+    public Rectangle get(long id) {
+        int position = Arrays.binarySearch(ids, id);
+        return position < 0 ? null : rectangles[position];
+    }
+
+    /**
+     * @return Returns every registered rectangle by id, in ascending id order.
+     */
+    public Map<Long, Rectangle> asMap() {
+        Map<Long, Rectangle> entries = new LinkedHashMap<>();
+        for (int position = 0; position < ids.length; position++) {
+            entries.put(ids[position], rectangles[position]);
+        }
+        return entries;
+    }
+
+    /**
+     * @param queryRectangle: The rectangle to compare against every registered rectangle.
+     * @return Returns the {@link Intersections} with each registered rectangle that intersects the query.
+     */
+    public Map<Long, Intersections> findIntersections(Rectangle queryRectangle) {
+        Map<Long, Intersections> results = new LinkedHashMap<>();
+        for (int position = 0; position < ids.length; position++) {
+            if (boundsTouch(queryRectangle, rectangles[position])) {
+                Intersections intersections = queryRectangle.identifyIntersections(rectangles[position]);
+                if (intersections.getIntersectionType() != IntersectionType.NON_INTERSECTING) {
+                    results.put(ids[position], intersections);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @param queryRectangle: The rectangle to compare against every registered rectangle.
+     * @return Returns the ids of the registered rectangles that fully contain the query.
+     */
+    public List<Long> findContainersOf(Rectangle queryRectangle) {
+        List<Long> results = new ArrayList<>();
+        for (int position = 0; position < ids.length; position++) {
+            if (queryRectangle.isFullyContainedBy(rectangles[position])) {
+                results.add(ids[position]);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @param queryRectangle: The rectangle to compare against every registered rectangle.
+     * @return Returns the ids of the registered rectangles fully contained by the query.
+     */
+    public List<Long> findContainedBy(Rectangle queryRectangle) {
+        List<Long> results = new ArrayList<>();
+        for (int position = 0; position < ids.length; position++) {
+            if (rectangles[position].isFullyContainedBy(queryRectangle)) {
+                results.add(ids[position]);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @param queryRectangle: The rectangle to compare against every registered rectangle.
+     * @return Returns the adjacencies of the query with each registered rectangle it shares a border with.
+     */
+    public Map<Long, List<Adjacency>> findAdjacencies(Rectangle queryRectangle) {
+        Map<Long, List<Adjacency>> results = new LinkedHashMap<>();
+        for (int position = 0; position < ids.length; position++) {
+            if (boundsTouch(queryRectangle, rectangles[position])) {
+                List<Adjacency> adjacencies = queryRectangle.findAnyAdjacencyWith(rectangles[position]);
+                if (!adjacencies.isEmpty()) {
+                    results.put(ids[position], adjacencies);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Cheap pre-check that skips the full operations for rectangles that cannot share a point with the query.
+     */
+    private static boolean boundsTouch(Rectangle firstRectangle, Rectangle secondRectangle) {
+        return firstRectangle.getLeftXLine() <= secondRectangle.getRightXLine() && secondRectangle.getLeftXLine() <= firstRectangle.getRightXLine()
+                && firstRectangle.getLowerYLine() <= secondRectangle.getUpperYLine() && secondRectangle.getLowerYLine() <= firstRectangle.getUpperYLine();
+    }
+}
@@ -0,0 +1,33 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.relationship;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyAxis;
+
+/**
+ * The four sides of the primary rectangle in a relationship code, in the order that
+ * {@link jehlenfeldt.assessments.rectangleoperations.resources.Rectangle#findAnyAdjacencyWith} reports them.
+ */
+public enum RectangleSide {
+    LEFT_X(AdjacencyAxis.X, 4),
+    RIGHT_X(AdjacencyAxis.X, 7),
+    UPPER_Y(AdjacencyAxis.Y, 10),
+    LOWER_Y(AdjacencyAxis.Y, 13);
+
+    private final AdjacencyAxis adjacencyAxis;
+    private final int shift;
+
+    RectangleSide(AdjacencyAxis adjacencyAxis, int shift) {
+        this.adjacencyAxis = adjacencyAxis;
+        this.shift = shift;
+    }
+
+    public AdjacencyAxis getAdjacencyAxis() {
+        return adjacencyAxis;
+    }
+
+    /**
+     * @return Returns the bit offset of this side's adjacency field within a relationship code.
+     */
+    public int getShift() {
+        return shift;
+    }
+}
@@ -0,0 +1,129 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.relationship;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.LongRectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+
+/**
+ * Computes the complete relationship between two rectangles in a single pass and packs it into a primitive long.
+ *
+ * Bit layout of a relationship code:
+ *  bit 0:      The rectangles intersect (their closed areas share at least one point).
+ *  bit 1:      The first rectangle is fully contained by the second.
+ *  bit 2:      The second rectangle is fully contained by the first.
+ *  bit 3:      The rectangles are identical.
+ *  bits 4-15:  One three bit adjacency field per {@link RectangleSide} of the first rectangle. The lowest bit of a field is
+ *              set when the side is adjacent to the second rectangle and the upper two bits hold the adjacency type code.
+ *
+ * Use {@link RelationshipDecoder} to turn a code back into the {@link jehlenfeldt.assessments.rectangleoperations.resources.intersection.Intersections}
+ * and {@link jehlenfeldt.assessments.rectangleoperations.resources.adjacency.Adjacency} types used by {@link Rectangle}.
+ */
+public final class RelationshipClassifier {
+    public static final long INTERSECTING = 1L;
+    public static final long FIRST_CONTAINED_BY_SECOND = 1L << 1;
+    public static final long SECOND_CONTAINED_BY_FIRST = 1L << 2;
+    public static final long IDENTICAL = 1L << 3;
+
+    public static final long SIDE_PRESENT = 1L;
+    public static final int SIDE_FIELD_WIDTH = 3;
+    public static final int SIDE_FIELD_MASK = (1 << SIDE_FIELD_WIDTH) - 1;
+
+    public static final int PROPER_CODE = 0;
+    public static final int SUB_LINE_CODE = 1;
+    public static final int PARTIAL_CODE = 2;
+
+    private RelationshipClassifier() {
+    }
+
+    /**
+     * Classifies the relationship between the two provided rectangles.
+     *
+     * @param firstRectangle: The primary rectangle. Adjacency fields describe the sides of this rectangle.
+     * @param secondRectangle: The rectangle to compare against.
+     * @return Returns the relationship code described in the class documentation.
+     */
+    public static long classify(Rectangle firstRectangle, Rectangle secondRectangle) {
+        return classify(firstRectangle.getLeftXLine(), firstRectangle.getLowerYLine(), firstRectangle.getRightXLine(), firstRectangle.getUpperYLine(),
+                secondRectangle.getLeftXLine(), secondRectangle.getLowerYLine(), secondRectangle.getRightXLine(), secondRectangle.getUpperYLine());
+    }
+
+    /**
+     * Classifies the relationship between the two provided rectangles with long coordinates.
+     *
+     * @param firstRectangle: The primary rectangle. Adjacency fields describe the sides of this rectangle.
+     * @param secondRectangle: The rectangle to compare against.
+     * @return Returns the relationship code described in the class documentation.
+     */
+    public static long classify(LongRectangle firstRectangle, LongRectangle secondRectangle) {
+        return classify(firstRectangle.getLeftXLine(), firstRectangle.getLowerYLine(), firstRectangle.getRightXLine(), firstRectangle.getUpperYLine(),
+                secondRectangle.getLeftXLine(), secondRectangle.getLowerYLine(), secondRectangle.getRightXLine(), secondRectangle.getUpperYLine());
+    }
+
+    /**
+     * Classifies the relationship between two rectangles given by their lines. The comparisons are evaluated without
+     * short-circuiting so that the method compiles down to a mostly branch free sequence.
+     *
+     * @return Returns the relationship code described in the class documentation.
+     */
+    public static long classify(long firstLeft, long firstLower, long firstRight, long firstUpper,
+                                long secondLeft, long secondLower, long secondRight, long secondUpper) {
+        boolean intersecting = firstLeft <= secondRight & secondLeft <= firstRight
+                & firstLower <= secondUpper & secondLower <= firstUpper;
+        boolean firstContained = secondLeft < firstLeft & secondRight > firstRight
+                & secondLower < firstLower & secondUpper > firstUpper;
+        boolean secondContained = firstLeft < secondLeft & firstRight > secondRight
+                & firstLower < secondLower & firstUpper > secondUpper;
+
+        boolean leftLinesMatch = firstLeft == secondLeft;
+        boolean rightLinesMatch = firstRight == secondRight;
+        boolean upperLinesMatch = firstUpper == secondUpper;
+        boolean lowerLinesMatch = firstLower == secondLower;
+        boolean identical = leftLinesMatch & rightLinesMatch & upperLinesMatch & lowerLinesMatch;
+
+        //Mirrors the decision order of checkForXAdjacencies and checkForYAdjacencies in Rectangle.
+        boolean adjacencyPossible = intersecting & !firstContained & !secondContained;
+        boolean xLinesAllowAdjacencies = adjacencyPossible & firstUpper > secondLower & firstLower < secondUpper;
+        boolean yLinesAllowAdjacencies = adjacencyPossible & firstRight > secondLeft & firstLeft < secondRight;
+
+        boolean leftAdjacent = xLinesAllowAdjacencies & (leftLinesMatch | !rightLinesMatch & firstLeft == secondRight);
+        boolean rightAdjacent = xLinesAllowAdjacencies & (rightLinesMatch | !leftLinesMatch & firstLeft != secondRight & firstRight == secondLeft);
+        boolean upperAdjacent = yLinesAllowAdjacencies & (upperLinesMatch | !lowerLinesMatch & firstUpper == secondLower);
+        boolean lowerAdjacent = yLinesAllowAdjacencies & (lowerLinesMatch | !upperLinesMatch & firstUpper != secondLower & firstLower == secondUpper);
+
+        long xAxisTypeCode = adjacencyTypeCode(firstUpper, firstLower, secondUpper, secondLower);
+        long yAxisTypeCode = adjacencyTypeCode(firstRight, firstLeft, secondRight, secondLeft);
+
+        return flag(intersecting, INTERSECTING)
+                | flag(firstContained, FIRST_CONTAINED_BY_SECOND)
+                | flag(secondContained, SECOND_CONTAINED_BY_FIRST)
+                | flag(identical, IDENTICAL)
+                | sideField(leftAdjacent, xAxisTypeCode, RectangleSide.LEFT_X)
+                | sideField(rightAdjacent, xAxisTypeCode, RectangleSide.RIGHT_X)
+                | sideField(upperAdjacent, yAxisTypeCode, RectangleSide.UPPER_Y)
+                | sideField(lowerAdjacent, yAxisTypeCode, RectangleSide.LOWER_Y);
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    private static long flag(boolean condition, long mask) {
+        return condition ? mask : 0L;
+    }
+
+    private static long sideField(boolean adjacent, long typeCode, RectangleSide side) {
+        return adjacent ? (SIDE_PRESENT | typeCode << 1) << side.getShift() : 0L;
+    }
+
+    /**
+     * Branch light equivalent of {@link jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyType#determine}.
+     *
+     * @return Returns {@link #PROPER_CODE}, {@link #SUB_LINE_CODE} or {@link #PARTIAL_CODE}.
+     */
+    private static long adjacencyTypeCode(long primaryObjectGreaterLine, long primaryObjectLesserLine, long secondaryObjectGreaterLine, long secondaryObjectLesserLine) {
+        boolean proper = primaryObjectGreaterLine == secondaryObjectGreaterLine & primaryObjectLesserLine == secondaryObjectLesserLine;
+        boolean subLine = primaryObjectGreaterLine > secondaryObjectGreaterLine & primaryObjectLesserLine < secondaryObjectLesserLine
+                | primaryObjectGreaterLine < secondaryObjectGreaterLine & primaryObjectLesserLine > secondaryObjectLesserLine;
+        return PARTIAL_CODE - (proper ? PARTIAL_CODE : 0) - (subLine ? PARTIAL_CODE - SUB_LINE_CODE : 0);
+    }
+}
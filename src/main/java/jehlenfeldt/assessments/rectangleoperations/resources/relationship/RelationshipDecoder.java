@@ -0,0 +1,154 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.relationship;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.Adjacency;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyAxis;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyType;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.IntersectionType;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes relationship codes produced by {@link RelationshipClassifier} back into the types used by {@link Rectangle}.
+ */
+public final class RelationshipDecoder {
+    private static final RectangleSide[] SIDES = RectangleSide.values();
+    private static final RectangleSide[] SIDE_ORDER = {RectangleSide.LEFT_X, RectangleSide.RIGHT_X, RectangleSide.UPPER_Y, RectangleSide.LOWER_Y};
+    private static final RectangleSide[] IDENTICAL_SIDE_ORDER = {RectangleSide.LEFT_X, RectangleSide.RIGHT_X, RectangleSide.LOWER_Y, RectangleSide.UPPER_Y};
+
+    private RelationshipDecoder() {
+    }
+
+    public static boolean isIntersecting(long relationshipCode) {
+        return (relationshipCode & RelationshipClassifier.INTERSECTING) != 0;
+    }
+
+    public static boolean isFirstContainedBySecond(long relationshipCode) {
+        return (relationshipCode & RelationshipClassifier.FIRST_CONTAINED_BY_SECOND) != 0;
+    }
+
+    public static boolean isSecondContainedByFirst(long relationshipCode) {
+        return (relationshipCode & RelationshipClassifier.SECOND_CONTAINED_BY_FIRST) != 0;
+    }
+
+    public static boolean isIdentical(long relationshipCode) {
+        return (relationshipCode & RelationshipClassifier.IDENTICAL) != 0;
+    }
+
+    /**
+     * @return Returns true if any side of the first rectangle is adjacent to the second.
+     */
+    public static boolean hasAnyAdjacency(long relationshipCode) {
+        for (RectangleSide side : SIDES) {
+            if (isAdjacent(relationshipCode, side)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean isAdjacent(long relationshipCode, RectangleSide side) {
+        return (sideField(relationshipCode, side) & RelationshipClassifier.SIDE_PRESENT) != 0;
+    }
+
+    /**
+     * @return Returns the {@link AdjacencyType} of the provided side, or null if the side is not adjacent.
+     */
+    public static AdjacencyType getAdjacencyType(long relationshipCode, RectangleSide side) {
+        long field = sideField(relationshipCode, side);
+        if ((field & RelationshipClassifier.SIDE_PRESENT) == 0) {
+            return null;
+        }
+
+        switch ((int) (field >>> 1)) {
+            case RelationshipClassifier.PROPER_CODE:
+                return AdjacencyType.PROPER;
+            case RelationshipClassifier.SUB_LINE_CODE:
+                return AdjacencyType.SUB_LINE;
+            default:
+                return AdjacencyType.PARTIAL;
+        }
+    }
+
+    /**
+     * @return Returns the number of sides of the first rectangle that are adjacent to the second with the provided type.
+     */
+    public static int countAdjacencies(long relationshipCode, AdjacencyType adjacencyType) {
+        int count = 0;
+        for (RectangleSide side : SIDES) {
+            if (getAdjacencyType(relationshipCode, side) == adjacencyType) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Determines the {@link IntersectionType} that {@link Rectangle#identifyIntersections} reports for the encoded pair.
+     * Two overlapping rectangles where neither strictly contains the other always share at least one border node.
+     *
+     * @param relationshipCode: The code produced by {@link RelationshipClassifier}.
+     * @return Returns the matching {@link IntersectionType}.
+     */
+    public static IntersectionType toIntersectionType(long relationshipCode) {
+        if (isIdentical(relationshipCode)) {
+            return IntersectionType.ALL_POINTS_INTERSECT;
+        }
+
+        if (!isIntersecting(relationshipCode) || isFirstContainedBySecond(relationshipCode) || isSecondContainedByFirst(relationshipCode)) {
+            return IntersectionType.NON_INTERSECTING;
+        }
+
+        return IntersectionType.NODE;
+    }
+
+    /**
+     * Rebuilds the list of {@link Adjacency} objects that {@link Rectangle#findAnyAdjacencyWith} returns for the encoded pair.
+     *
+     * @param relationshipCode: The code produced by classifying the two rectangles.
+     * @param firstRectangle: The primary rectangle that was classified.
+     * @param secondRectangle: The rectangle it was compared against.
+     * @return Returns the adjacencies in the same order as {@link Rectangle#findAnyAdjacencyWith}.
+     */
+    public static List<Adjacency> toAdjacencies(long relationshipCode, Rectangle firstRectangle, Rectangle secondRectangle) {
+        List<Adjacency> adjacencies = new ArrayList<>();
+        RectangleSide[] sideOrder = isIdentical(relationshipCode) ? IDENTICAL_SIDE_ORDER : SIDE_ORDER;
+
+        for (RectangleSide side : sideOrder) {
+            AdjacencyType adjacencyType = getAdjacencyType(relationshipCode, side);
+            if (adjacencyType != null) {
+                adjacencies.add(buildAdjacency(adjacencyType, side, firstRectangle, secondRectangle));
+            }
+        }
+
+        return adjacencies;
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    private static long sideField(long relationshipCode, RectangleSide side) {
+        return relationshipCode >>> side.getShift() & RelationshipClassifier.SIDE_FIELD_MASK;
+    }
+
+    /**
+     * The shared portion of two adjacent lines runs from the greater of the two lesser lines to the lesser of the two greater lines.
+     */
+    private static Adjacency buildAdjacency(AdjacencyType adjacencyType, RectangleSide side, Rectangle firstRectangle, Rectangle secondRectangle) {
+        if (side.getAdjacencyAxis() == AdjacencyAxis.X) {
+            int xCoordinate = side == RectangleSide.LEFT_X ? firstRectangle.getLeftXLine() : firstRectangle.getRightXLine();
+            int start = Math.max(firstRectangle.getLowerYLine(), secondRectangle.getLowerYLine());
+            int end = Math.min(firstRectangle.getUpperYLine(), secondRectangle.getUpperYLine());
+            return new Adjacency(adjacencyType, AdjacencyAxis.X, new Node(xCoordinate, start), new Node(xCoordinate, end));
+        }
+
+        int yCoordinate = side == RectangleSide.UPPER_Y ? firstRectangle.getUpperYLine() : firstRectangle.getLowerYLine();
+        int start = Math.max(firstRectangle.getLeftXLine(), secondRectangle.getLeftXLine());
+        int end = Math.min(firstRectangle.getRightXLine(), secondRectangle.getRightXLine());
+        return new Adjacency(adjacencyType, AdjacencyAxis.Y, new Node(start, yCoordinate), new Node(end, yCoordinate));
+    }
+}
@@ -0,0 +1,58 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.relationship;
+
+/**
+ * The relationship code between two rectangles of a dataset, identified by their indexes.
+ * The code is classified from the perspective of the rectangle at firstIndex.
+ */
+public class RelationshipRecord {
+    private final int firstIndex;
+    private final int secondIndex;
+    private final long relationshipCode;
+
+    public RelationshipRecord(int firstIndex, int secondIndex, long relationshipCode) {
+        this.firstIndex = firstIndex;
+        this.secondIndex = secondIndex;
+        this.relationshipCode = relationshipCode;
+    }
+
+    public int getFirstIndex() {
+        return firstIndex;
+    }
+
+    public int getSecondIndex() {
+        return secondIndex;
+    }
+
+    /**
+     * @return Returns the code produced by {@link RelationshipClassifier}. Read it with {@link RelationshipDecoder}.
+     */
+    public long getRelationshipCode() {
+        return relationshipCode;
+    }
+
+    @Override
+    public String toString() {
+        return "RelationshipRecord{" +
+                "firstIndex=" + firstIndex +
+                ", secondIndex=" + secondIndex +
+                ", relationshipCode=" + Long.toBinaryString(relationshipCode) +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj != null
+                && obj.getClass().equals(RelationshipRecord.class)
+                && this.firstIndex == ((RelationshipRecord) obj).firstIndex
+                && this.secondIndex == ((RelationshipRecord) obj).secondIndex
+                && this.relationshipCode == ((RelationshipRecord) obj).relationshipCode;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * firstIndex + secondIndex) + Long.hashCode(relationshipCode);
+    }
+}
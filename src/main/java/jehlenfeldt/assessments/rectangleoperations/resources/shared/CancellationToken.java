@@ -0,0 +1,37 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.shared;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.OperationCancelledException;
+
+/**
+ * A flag that long running operations poll to find out whether their result is still wanted.
+ */
+public class CancellationToken {
+    /**
+     * A token that can never be cancelled. Used by the synchronous operations.
+     */
+    public static final CancellationToken NONE = new CancellationToken() {
+        @Override
+        public void cancel() {
+            //The shared token must never flip, otherwise every synchronous caller would be cancelled.
+        }
+    };
+
+    private volatile boolean cancelled;
+
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @throws OperationCancelledException if this token has been cancelled.
+     */
+    public void throwIfCancelled() throws OperationCancelledException {
+        if (cancelled) {
+            throw new OperationCancelledException();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.shared;
+
+/**
+ * A {@link Node} with long coordinates, for layouts whose extent does not fit into an int.
+ */
+public class LongNode {
+    private final long xCoordinate;
+    private final long yCoordinate;
+
+    public LongNode(long xCoordinate, long yCoordinate) {
+        this.xCoordinate = xCoordinate;
+        this.yCoordinate = yCoordinate;
+    }
+
+    public long getXCoordinate() {
+        return xCoordinate;
+    }
+
+    public long getYCoordinate() {
+        return yCoordinate;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj != null
+                && obj.getClass().equals(LongNode.class)
+                && this.xCoordinate == ((LongNode) obj).getXCoordinate()
+                && this.yCoordinate == ((LongNode) obj).getYCoordinate();
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(this.xCoordinate) + Long.hashCode(this.yCoordinate);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + this.xCoordinate + ", " + this.yCoordinate + ")";
+    }
+}
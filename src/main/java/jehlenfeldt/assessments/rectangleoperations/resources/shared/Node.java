@@ -25,12 +25,20 @@ public class Node {
 
     @Override
     public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
         return obj != null
                 && obj.getClass().equals(Node.class)
                 && this.xCoordinate == ((Node) obj).getXCoordinate()
                 && this.yCoordinate == ((Node) obj).getYCoordinate();
     }
 
+    @Override
+    public int hashCode() {
+        return 31 * this.xCoordinate + this.yCoordinate;
+    }
+
     @Override
     public String toString() {
         return "(" + this.xCoordinate + ", " + this.yCoordinate + ")";
@@ -0,0 +1,109 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.store;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.LongRectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.LongNode;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Column oriented storage for a batch of {@link LongRectangle}s, the long coordinate counterpart of {@link RectangleStore}.
+ */
+public class LongRectangleStore {
+    private final long[] leftLines;
+    private final long[] lowerLines;
+    private final long[] rightLines;
+    private final long[] upperLines;
+
+    /**
+     * Wraps the provided columns. All arrays must have the same length and, like {@link LongRectangle}, every rectangle
+     * needs its left x-line below its right x-line and its lower y-line below its upper y-line. Lines may be negative.
+     *
+     * @throws InvalidDimensionsException if any rectangle has inverted or empty lines.
+     */
+    public LongRectangleStore(long[] leftLines, long[] lowerLines, long[] rightLines, long[] upperLines) throws InvalidDimensionsException {
+        if (lowerLines.length != leftLines.length || rightLines.length != leftLines.length || upperLines.length != leftLines.length) {
+            throw new IllegalArgumentException("All rectangle columns must have the same length.");
+        }
+        for (int index = 0; index < leftLines.length; index++) {
+            if (leftLines[index] >= rightLines[index] || lowerLines[index] >= upperLines[index]) {
+                throw new InvalidDimensionsException("The rectangle at index " + index + " has inverted or empty lines.");
+            }
+        }
+        this.leftLines = leftLines;
+        this.lowerLines = lowerLines;
+        this.rightLines = rightLines;
+        this.upperLines = upperLines;
+    }
+
+    /**
+     * Copies the lines of the provided rectangles into a new store. Index i of the store refers to element i of the list.
+     */
+    public static LongRectangleStore of(List<LongRectangle> rectangles) {
+        int count = rectangles.size();
+        long[] leftLines = new long[count];
+        long[] lowerLines = new long[count];
+        long[] rightLines = new long[count];
+        long[] upperLines = new long[count];
+        for (int index = 0; index < count; index++) {
+            LongRectangle rectangle = rectangles.get(index);
+            leftLines[index] = rectangle.getLeftXLine();
+            lowerLines[index] = rectangle.getLowerYLine();
+            rightLines[index] = rectangle.getRightXLine();
+            upperLines[index] = rectangle.getUpperYLine();
+        }
+        return new LongRectangleStore(leftLines, lowerLines, rightLines, upperLines);
+    }
+
+    public int size() {
+        return leftLines.length;
+    }
+
+    public long getLeftXLine(int index) {
+        return leftLines[index];
+    }
+
+    public long getLowerYLine(int index) {
+        return lowerLines[index];
+    }
+
+    public long getRightXLine(int index) {
+        return rightLines[index];
+    }
+
+    public long getUpperYLine(int index) {
+        return upperLines[index];
+    }
+
+    /**
+     * @return Returns a new {@link LongRectangle} built from the lines stored at the provided index.
+     */
+    public LongRectangle getRectangle(int index) throws InvalidDimensionsException {
+        return new LongRectangle(new LongNode(leftLines[index], upperLines[index]), new LongNode(rightLines[index], lowerLines[index]));
+    }
+
+    /**
+     * Returns the indexes of the store ordered by their left x-line. A long line and an index do not fit into one long
+     * together, so the lines are first replaced by their rank among the sorted lines, which keeps both sorts primitive.
+     *
+     * @return Returns a new array of indexes sorted by left x-line, ties ordered by index.
+     */
+    public int[] indexesSortedByLeftXLine() {
+        long[] sortedLines = leftLines.clone();
+        Arrays.sort(sortedLines);
+
+        long[] packed = new long[size()];
+        for (int index = 0; index < packed.length; index++) {
+            long rank = Arrays.binarySearch(sortedLines, leftLines[index]);
+            packed[index] = rank << 32 | index;
+        }
+        Arrays.sort(packed);
+
+        int[] order = new int[packed.length];
+        for (int position = 0; position < packed.length; position++) {
+            order[position] = (int) packed[position];
+        }
+        return order;
+    }
+}
@@ -0,0 +1,121 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.store;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Column oriented storage for a batch of rectangles. Each line of every rectangle is kept in its own primitive array so
+ * that batch operations can scan the data without touching {@link Rectangle} or {@link Node} objects.
+ */
+public class RectangleStore {
+    private final int[] leftLines;
+    private final int[] lowerLines;
+    private final int[] rightLines;
+    private final int[] upperLines;
+
+    /**
+     * Wraps already validated columns. All arrays must have the same length.
+     */
+    public RectangleStore(int[] leftLines, int[] lowerLines, int[] rightLines, int[] upperLines) {
+        if (lowerLines.length != leftLines.length || rightLines.length != leftLines.length || upperLines.length != leftLines.length) {
+            throw new IllegalArgumentException("All rectangle columns must have the same length.");
+        }
+        this.leftLines = leftLines;
+        this.lowerLines = lowerLines;
+        this.rightLines = rightLines;
+        this.upperLines = upperLines;
+    }
+
+    /**
+     * Copies the lines of the provided rectangles into a new store. Index i of the store refers to element i of the list.
+     */
+    public static RectangleStore of(List<Rectangle> rectangles) {
+        int count = rectangles.size();
+        int[] leftLines = new int[count];
+        int[] lowerLines = new int[count];
+        int[] rightLines = new int[count];
+        int[] upperLines = new int[count];
+        for (int index = 0; index < count; index++) {
+            Rectangle rectangle = rectangles.get(index);
+            leftLines[index] = rectangle.getLeftXLine();
+            lowerLines[index] = rectangle.getLowerYLine();
+            rightLines[index] = rectangle.getRightXLine();
+            upperLines[index] = rectangle.getUpperYLine();
+        }
+        return new RectangleStore(leftLines, lowerLines, rightLines, upperLines);
+    }
+
+    public int size() {
+        return leftLines.length;
+    }
+
+    public int getLeftXLine(int index) {
+        return leftLines[index];
+    }
+
+    public int getLowerYLine(int index) {
+        return lowerLines[index];
+    }
+
+    public int getRightXLine(int index) {
+        return rightLines[index];
+    }
+
+    public int getUpperYLine(int index) {
+        return upperLines[index];
+    }
+
+    /**
+     * @return Returns a new {@link Rectangle} built from the lines stored at the provided index.
+     */
+    public Rectangle getRectangle(int index) throws InvalidDimensionsException {
+        return new Rectangle(new Node(leftLines[index], upperLines[index]), new Node(rightLines[index], lowerLines[index]));
+    }
+
+    /**
+     * Reorders the columns of the store, for example to improve the memory locality of later batch operations.
+     *
+     * @param order: For every position of the new store, the index in this store to copy from.
+     * @return Returns a new store whose index i holds the rectangle stored at index order[i] of this store.
+     */
+    public RectangleStore permute(int[] order) {
+        if (order.length != size()) {
+            throw new IllegalArgumentException("The order must contain one index per stored rectangle.");
+        }
+        int[] permutedLeftLines = new int[order.length];
+        int[] permutedLowerLines = new int[order.length];
+        int[] permutedRightLines = new int[order.length];
+        int[] permutedUpperLines = new int[order.length];
+        for (int position = 0; position < order.length; position++) {
+            int index = order[position];
+            permutedLeftLines[position] = leftLines[index];
+            permutedLowerLines[position] = lowerLines[index];
+            permutedRightLines[position] = rightLines[index];
+            permutedUpperLines[position] = upperLines[index];
+        }
+        return new RectangleStore(permutedLeftLines, permutedLowerLines, permutedRightLines, permutedUpperLines);
+    }
+
+    /**
+     * Returns the indexes of the store ordered by their left x-line, which is the order the sweep based batch operations scan in.
+     *
+     * @return Returns a new array of indexes sorted by left x-line, ties ordered by index.
+     */
+    public int[] indexesSortedByLeftXLine() {
+        long[] packed = new long[size()];
+        for (int index = 0; index < packed.length; index++) {
+            packed[index] = (long) leftLines[index] << 32 | index;
+        }
+        Arrays.sort(packed);
+
+        int[] order = new int[packed.length];
+        for (int position = 0; position < packed.length; position++) {
+            order[position] = (int) packed[position];
+        }
+        return order;
+    }
+}
@@ -0,0 +1,14 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.tracing;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Emitted by {@link jehlenfeldt.assessments.rectangleoperations.resources.Rectangle#findAnyAdjacencyWith}.
+ */
+@Name("jehlenfeldt.rectangleoperations.FindAnyAdjacency")
+@Label("Find Any Adjacency")
+@Threshold("1 ms")
+public class AdjacencyEvent extends PairOperationEvent {
+}
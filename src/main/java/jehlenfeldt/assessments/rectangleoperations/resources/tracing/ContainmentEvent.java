@@ -0,0 +1,14 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.tracing;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Emitted by {@link jehlenfeldt.assessments.rectangleoperations.resources.Rectangle#isFullyContainedBy}.
+ */
+@Name("jehlenfeldt.rectangleoperations.IsFullyContainedBy")
+@Label("Is Fully Contained By")
+@Threshold("1 ms")
+public class ContainmentEvent extends PairOperationEvent {
+}
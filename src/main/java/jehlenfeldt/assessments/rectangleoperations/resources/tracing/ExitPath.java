@@ -0,0 +1,23 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.tracing;
+
+/**
+ * The branch an operation on {@link jehlenfeldt.assessments.rectangleoperations.resources.Rectangle} returned through.
+ */
+public enum ExitPath {
+    /**
+     * Both rectangles were equal and the result was produced without comparing borders.
+     */
+    IDENTICAL,
+    /**
+     * The bounds of the rectangles were apart, so no further work was needed.
+     */
+    DISJOINT_BOUNDS,
+    /**
+     * One rectangle lies strictly inside the other, so no borders can be shared.
+     */
+    CONTAINED,
+    /**
+     * The full computation ran.
+     */
+    FULL_COMPUTATION
+}
@@ -0,0 +1,14 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.tracing;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Emitted by {@link jehlenfeldt.assessments.rectangleoperations.resources.Rectangle#identifyIntersections}.
+ */
+@Name("jehlenfeldt.rectangleoperations.IdentifyIntersections")
+@Label("Identify Intersections")
+@Threshold("1 ms")
+public class IdentifyIntersectionsEvent extends PairOperationEvent {
+}
@@ -0,0 +1,14 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.tracing;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Emitted by {@link jehlenfeldt.assessments.rectangleoperations.resources.Rectangle#getListOfIntegerNodes}.
+ */
+@Name("jehlenfeldt.rectangleoperations.ListIntegerNodes")
+@Label("List Integer Nodes")
+@Threshold("1 ms")
+public class IntegerNodesEvent extends RectangleOperationEvent {
+}
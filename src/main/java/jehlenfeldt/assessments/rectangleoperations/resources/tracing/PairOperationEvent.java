@@ -0,0 +1,34 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.tracing;
+
+import jdk.jfr.Label;
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+
+/**
+ * Adds the dimensions of the rectangle compared against to a {@link RectangleOperationEvent}.
+ */
+abstract class PairOperationEvent extends RectangleOperationEvent {
+    @Label("Second Left X-Line")
+    int secondLeftXLine;
+
+    @Label("Second Lower Y-Line")
+    int secondLowerYLine;
+
+    @Label("Second Right X-Line")
+    int secondRightXLine;
+
+    @Label("Second Upper Y-Line")
+    int secondUpperYLine;
+
+    /**
+     * Ends the event and writes it if it is enabled and took longer than its threshold.
+     */
+    public void complete(Rectangle rectangle, Rectangle secondRectangle, ExitPath path, int size) {
+        if (shouldCommit()) {
+            secondLeftXLine = secondRectangle.getLeftXLine();
+            secondLowerYLine = secondRectangle.getLowerYLine();
+            secondRightXLine = secondRectangle.getRightXLine();
+            secondUpperYLine = secondRectangle.getUpperYLine();
+            complete(rectangle, path, size);
+        }
+    }
+}
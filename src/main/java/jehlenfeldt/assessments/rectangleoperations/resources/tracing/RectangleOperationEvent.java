@@ -0,0 +1,52 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.tracing;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+
+/**
+ * Common fields of the Java Flight Recorder events emitted by {@link Rectangle} operations.
+ * The duration of the operation is recorded by the event itself. Subclasses carry a threshold so that only slow calls are
+ * written, which keeps the events cheap enough to stay enabled in production.
+ */
+@Category({"Rectangle Operations"})
+@StackTrace(false)
+abstract class RectangleOperationEvent extends Event {
+    @Label("Left X-Line")
+    int leftXLine;
+
+    @Label("Lower Y-Line")
+    int lowerYLine;
+
+    @Label("Right X-Line")
+    int rightXLine;
+
+    @Label("Upper Y-Line")
+    int upperYLine;
+
+    @Label("Exit Path")
+    @Description("The branch the operation returned through")
+    String exitPath;
+
+    @Label("Result Size")
+    @Description("The number of nodes or adjacencies returned, or 1 and 0 for boolean results")
+    int resultSize;
+
+    /**
+     * Ends the event and writes it if it is enabled and took longer than its threshold.
+     */
+    public void complete(Rectangle rectangle, ExitPath path, int size) {
+        if (shouldCommit()) {
+            leftXLine = rectangle.getLeftXLine();
+            lowerYLine = rectangle.getLowerYLine();
+            rightXLine = rectangle.getRightXLine();
+            upperYLine = rectangle.getUpperYLine();
+            exitPath = path.name();
+            resultSize = size;
+            commit();
+        }
+    }
+}
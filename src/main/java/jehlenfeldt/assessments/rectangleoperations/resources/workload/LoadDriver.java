@@ -0,0 +1,282 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.workload;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.async.AsyncRectangleOperations;
+import jehlenfeldt.assessments.rectangleoperations.resources.components.ComponentLabeller;
+import jehlenfeldt.assessments.rectangleoperations.resources.components.ConnectivityRule;
+import jehlenfeldt.assessments.rectangleoperations.resources.counting.RelationshipCounter;
+import jehlenfeldt.assessments.rectangleoperations.resources.ordering.HilbertOrdering;
+import jehlenfeldt.assessments.rectangleoperations.resources.ordering.Permutation;
+import jehlenfeldt.assessments.rectangleoperations.resources.overlap.OverlapAreaMatrix;
+import jehlenfeldt.assessments.rectangleoperations.resources.registry.RectangleRegistry;
+import jehlenfeldt.assessments.rectangleoperations.resources.store.RectangleStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays rectangle datasets through the batch, parallel and service entry points and reports throughput and latency percentiles.
+ *
+ * Every entry point is first run for a number of unmeasured warm up rounds so that the JIT has compiled the hot paths,
+ * and then for a number of measured rounds whose samples are combined into one {@link LoadReport}.
+ * Service requests pair every rectangle with one of its neighbours along a Hilbert curve so that most requests compare
+ * rectangles that are close to each other, as the requests of a real service would.
+ */
+public class LoadDriver {
+    private static final int NEIGHBOUR_WINDOW = 8;
+    private static final int MAXIMUM_MATRIX_SIZE = 2_048;
+    private static final long WRITER_PAUSE_NANOS = 100_000;
+
+    private final int warmupRounds;
+    private final int measuredRounds;
+    private final long seed;
+
+    /**
+     * @param warmupRounds: The number of unmeasured rounds run before measuring each entry point.
+     * @param measuredRounds: The number of measured rounds per entry point.
+     * @param seed: The seed used to pick service requests.
+     */
+    public LoadDriver(int warmupRounds, int measuredRounds, long seed) {
+        if (warmupRounds < 0 || measuredRounds < 1) {
+            throw new IllegalArgumentException("At least one measured round is required and warm up rounds must not be negative.");
+        }
+        this.warmupRounds = warmupRounds;
+        this.measuredRounds = measuredRounds;
+        this.seed = seed;
+    }
+
+    /**
+     * Runs the driver against a generated dataset and prints one report per entry point.
+     * Arguments, all optional: distribution, rectangle count, extent, seed.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        WorkloadDistribution distribution = args.length > 0 ? WorkloadDistribution.valueOf(args[0]) : WorkloadDistribution.UNIFORM;
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+        int extent = args.length > 2 ? Integer.parseInt(args[2]) : 100_000;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+
+        List<Rectangle> rectangles = new WorkloadGenerator(seed).generate(distribution, count, extent);
+        LoadDriver driver = new LoadDriver(3, 10, seed);
+        int threadCount = Runtime.getRuntime().availableProcessors();
+
+        System.out.println(distribution + ": " + count + " rectangles within " + extent + " x " + extent);
+        System.out.println(driver.runRelationshipCounts(rectangles));
+        System.out.println(driver.runOverlapMatrix(rectangles, threadCount));
+        System.out.println(driver.runComponentLabelling(rectangles, ConnectivityRule.BOTH));
+        try (AsyncRectangleOperations operations = new AsyncRectangleOperations(threadCount, 4 * threadCount)) {
+            System.out.println(driver.runAsyncOperations(rectangles, operations, Math.min(count, 1_000), 4 * threadCount));
+        }
+        System.out.println(driver.runRegistryQueries(rectangles, threadCount, Math.min(count, 100)));
+    }
+
+    /**
+     * Measures {@link RelationshipCounter#countRelationships} over the whole dataset. One operation is one rectangle.
+     * A single call covers every rectangle, so the latency percentiles are taken over whole rounds rather than per rectangle.
+     */
+    public LoadReport runRelationshipCounts(List<Rectangle> rectangles) {
+        RectangleStore store = RectangleStore.of(rectangles);
+        return measureRounds("batch relationship counts", store.size(), () -> RelationshipCounter.countRelationships(store));
+    }
+
+    /**
+     * Measures {@link OverlapAreaMatrix#compute} over at most the first 2048 rectangles, which bounds the matrix to 32 MiB.
+     * One operation is one rectangle, while each latency sample is one whole round as the matrix is computed in a single call.
+     */
+    public LoadReport runOverlapMatrix(List<Rectangle> rectangles, int blockCount) {
+        RectangleStore store = RectangleStore.of(rectangles.subList(0, Math.min(rectangles.size(), MAXIMUM_MATRIX_SIZE)));
+        return measureRounds("batch overlap matrix", store.size(), () -> OverlapAreaMatrix.compute(store, blockCount));
+    }
+
+    /**
+     * Measures {@link ComponentLabeller#label} over the whole dataset. One operation is one rectangle.
+     * Labelling has no per rectangle latency, so each latency sample is the time of one whole round.
+     */
+    public LoadReport runComponentLabelling(List<Rectangle> rectangles, ConnectivityRule connectivityRule) {
+        RectangleStore store = RectangleStore.of(rectangles);
+        return measureRounds("parallel components", store.size(), () -> ComponentLabeller.label(store, connectivityRule));
+    }
+
+    /**
+     * Sends requests that cycle through intersection, containment and adjacency checks to the provided service.
+     * One operation is one request, and its latency runs from submission until its future completes.
+     *
+     * @param requestsPerRound: The number of requests sent per round.
+     * @param maximumInFlight: The number of requests that may be outstanding at once. Should not exceed the queue capacity of the service.
+     */
+    public LoadReport runAsyncOperations(List<Rectangle> rectangles, AsyncRectangleOperations operations, int requestsPerRound,
+                                         int maximumInFlight) throws InterruptedException {
+        int[][] requestPairs = neighbourPairs(rectangles, requestsPerRound);
+        for (int round = 0; round < warmupRounds; round++) {
+            sendRequests(rectangles, operations, requestPairs, maximumInFlight, new long[requestsPerRound], new AtomicLong());
+        }
+
+        long[] latencies = new long[requestsPerRound * measuredRounds];
+        AtomicLong failures = new AtomicLong();
+        long start = System.nanoTime();
+        for (int round = 0; round < measuredRounds; round++) {
+            long[] roundLatencies = new long[requestsPerRound];
+            sendRequests(rectangles, operations, requestPairs, maximumInFlight, roundLatencies, failures);
+            System.arraycopy(roundLatencies, 0, latencies, round * requestsPerRound, requestsPerRound);
+        }
+        return new LoadReport("service async operations", latencies.length, failures.get(), System.nanoTime() - start, "request", latencies);
+    }
+
+    /**
+     * Registers the dataset in a {@link RectangleRegistry} and runs intersection queries against snapshots from several
+     * reader threads, while one writer moves a rectangle every 100 microseconds so that snapshots are rebuilt under load.
+     * One operation is one query.
+     *
+     * @param readerThreads: The number of threads issuing queries.
+     * @param queriesPerRound: The number of queries issued per round across all readers.
+     */
+    public LoadReport runRegistryQueries(List<Rectangle> rectangles, int readerThreads, int queriesPerRound) throws InterruptedException {
+        RectangleRegistry registry = new RectangleRegistry();
+        long[] ids = new long[rectangles.size()];
+        for (int index = 0; index < ids.length; index++) {
+            ids[index] = registry.register(rectangles.get(index));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(readerThreads + 1);
+        try {
+            for (int round = 0; round < warmupRounds; round++) {
+                queryRegistry(registry, rectangles, ids, executor, readerThreads, new long[queriesPerRound]);
+            }
+
+            long[] latencies = new long[queriesPerRound * measuredRounds];
+            long start = System.nanoTime();
+            for (int round = 0; round < measuredRounds; round++) {
+                long[] roundLatencies = new long[queriesPerRound];
+                queryRegistry(registry, rectangles, ids, executor, readerThreads, roundLatencies);
+                System.arraycopy(roundLatencies, 0, latencies, round * queriesPerRound, queriesPerRound);
+            }
+            return new LoadReport("service registry queries", latencies.length, 0, System.nanoTime() - start, "query", latencies);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    /**
+     * Times every measured round as one latency sample, since a round is a single call to a batch entry point.
+     */
+    private LoadReport measureRounds(String entryPoint, long operationsPerRound, Runnable round) {
+        for (int warmup = 0; warmup < warmupRounds; warmup++) {
+            round.run();
+        }
+
+        long[] latencies = new long[measuredRounds];
+        long start = System.nanoTime();
+        for (int measured = 0; measured < measuredRounds; measured++) {
+            long roundStart = System.nanoTime();
+            round.run();
+            latencies[measured] = System.nanoTime() - roundStart;
+        }
+        return new LoadReport(entryPoint, operationsPerRound * measuredRounds, 0, System.nanoTime() - start, "round", latencies);
+    }
+
+    /**
+     * Pairs random rectangles with one of the next few rectangles along the Hilbert curve through the dataset.
+     */
+    private int[][] neighbourPairs(List<Rectangle> rectangles, int requestCount) {
+        if (rectangles.size() < 2) {
+            throw new IllegalArgumentException("At least two rectangles are needed to send requests.");
+        }
+        Permutation permutation = HilbertOrdering.order(rectangles);
+        Random random = new Random(seed);
+        int[][] pairs = new int[requestCount][];
+        for (int request = 0; request < requestCount; request++) {
+            int position = random.nextInt(rectangles.size() - 1);
+            int partnerPosition = Math.min(rectangles.size() - 1, position + 1 + random.nextInt(NEIGHBOUR_WINDOW));
+            pairs[request] = new int[]{permutation.getOriginalIndex(position), permutation.getOriginalIndex(partnerPosition)};
+        }
+        return pairs;
+    }
+
+    private static void sendRequests(List<Rectangle> rectangles, AsyncRectangleOperations operations, int[][] requestPairs,
+                                     int maximumInFlight, long[] latencies, AtomicLong failures) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(maximumInFlight);
+        for (int request = 0; request < requestPairs.length; request++) {
+            Rectangle firstRectangle = rectangles.get(requestPairs[request][0]);
+            Rectangle secondRectangle = rectangles.get(requestPairs[request][1]);
+            inFlight.acquire();
+
+            long submitted = System.nanoTime();
+            CompletableFuture<?> future;
+            switch (request % 3) {
+                case 0:
+                    future = operations.identifyIntersections(firstRectangle, secondRectangle);
+                    break;
+                case 1:
+                    future = operations.isFullyContainedBy(firstRectangle, secondRectangle);
+                    break;
+                default:
+                    future = operations.findAnyAdjacencyWith(firstRectangle, secondRectangle);
+            }
+
+            int slot = request;
+            future.whenComplete((result, failure) -> {
+                latencies[slot] = System.nanoTime() - submitted;
+                if (failure != null) {
+                    failures.incrementAndGet();
+                }
+                inFlight.release();
+            });
+        }
+
+        //Once every permit is back all requests have completed and their latencies are visible through the semaphore.
+        inFlight.acquire(maximumInFlight);
+    }
+
+    private void queryRegistry(RectangleRegistry registry, List<Rectangle> rectangles, long[] ids, ExecutorService executor,
+                               int readerThreads, long[] latencies) throws InterruptedException {
+        AtomicBoolean reading = new AtomicBoolean(true);
+        Future<?> writer = executor.submit(() -> {
+            Random random = new Random(seed);
+            while (reading.get()) {
+                int index = random.nextInt(ids.length);
+                registry.update(ids[index], rectangles.get(random.nextInt(rectangles.size())));
+                LockSupport.parkNanos(WRITER_PAUSE_NANOS);
+            }
+        });
+
+        List<Future<?>> readers = new ArrayList<>();
+        for (int reader = 0; reader < readerThreads; reader++) {
+            int firstQuery = reader;
+            readers.add(executor.submit(() -> {
+                Random random = new Random(seed + firstQuery);
+                for (int query = firstQuery; query < latencies.length; query += readerThreads) {
+                    Rectangle queryRectangle = rectangles.get(random.nextInt(rectangles.size()));
+                    long start = System.nanoTime();
+                    registry.snapshot().findIntersections(queryRectangle);
+                    latencies[query] = System.nanoTime() - start;
+                }
+            }));
+        }
+
+        try {
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+            reading.set(false);
+            writer.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A registry load thread failed.", e.getCause());
+        } finally {
+            reading.set(false);
+        }
+    }
+}
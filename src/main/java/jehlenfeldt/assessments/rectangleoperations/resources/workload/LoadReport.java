@@ -0,0 +1,99 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.workload;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The throughput and latency distribution measured for one entry point by {@link LoadDriver}.
+ */
+public class LoadReport {
+    private final String entryPoint;
+    private final long operations;
+    private final long failedOperations;
+    private final long elapsedNanos;
+    private final String latencySampleUnit;
+    private final long[] sortedLatencyNanos;
+
+    /**
+     * @param entryPoint: The name of the measured entry point.
+     * @param operations: The number of units of work completed, such as rectangles processed or requests answered.
+     * @param failedOperations: The number of requests that completed with a failure.
+     * @param elapsedNanos: The wall clock time the measured operations took.
+     * @param latencySampleUnit: What one latency sample measured, such as a request or a whole round.
+     * @param latencyNanos: One latency sample per measured unit. The array is sorted in place.
+     */
+    LoadReport(String entryPoint, long operations, long failedOperations, long elapsedNanos, String latencySampleUnit, long[] latencyNanos) {
+        this.entryPoint = entryPoint;
+        this.operations = operations;
+        this.failedOperations = failedOperations;
+        this.elapsedNanos = elapsedNanos;
+        this.latencySampleUnit = latencySampleUnit;
+        this.sortedLatencyNanos = latencyNanos;
+        Arrays.sort(sortedLatencyNanos);
+    }
+
+    public String getEntryPoint() {
+        return entryPoint;
+    }
+
+    public long getOperations() {
+        return operations;
+    }
+
+    public long getFailedOperations() {
+        return failedOperations;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Latency samples are not always taken per operation, the batch entry points time one whole round per sample.
+     *
+     * @return Returns what one latency sample measured.
+     */
+    public String getLatencySampleUnit() {
+        return latencySampleUnit;
+    }
+
+    public double getThroughputPerSecond() {
+        return elapsedNanos == 0 ? 0 : operations * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Uses the nearest rank method, so the result is always one of the measured samples.
+     *
+     * @param percentile: The percentile to look up, greater than 0 and at most 100.
+     * @return Returns the latency in nanoseconds that the given percentage of samples did not exceed, or 0 without samples.
+     */
+    public long getLatencyPercentileNanos(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be greater than 0 and at most 100.");
+        }
+        if (sortedLatencyNanos.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sortedLatencyNanos.length);
+        return sortedLatencyNanos[Math.max(1, rank) - 1];
+    }
+
+    public long getP50LatencyNanos() {
+        return getLatencyPercentileNanos(50);
+    }
+
+    public long getP90LatencyNanos() {
+        return getLatencyPercentileNanos(90);
+    }
+
+    public long getP99LatencyNanos() {
+        return getLatencyPercentileNanos(99);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-24s %,14.0f ops/s  p50=%,12d ns  p90=%,12d ns  p99=%,12d ns  per %-7s  failed=%d",
+                entryPoint, getThroughputPerSecond(), getP50LatencyNanos(), getP90LatencyNanos(), getP99LatencyNanos(),
+                latencySampleUnit, failedOperations);
+    }
+}
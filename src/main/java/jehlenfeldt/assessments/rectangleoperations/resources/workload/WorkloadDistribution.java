@@ -0,0 +1,28 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.workload;
+
+/**
+ * The shapes of synthetic datasets produced by {@link WorkloadGenerator}.
+ */
+public enum WorkloadDistribution {
+    /**
+     * Small rectangles spread evenly over the whole extent.
+     */
+    UNIFORM,
+    /**
+     * Small rectangles gathered in dense clusters, leaving most of the extent empty.
+     */
+    CLUSTERED,
+    /**
+     * Rooms of a floor plan that tile the extent, so most rectangles share edges with their neighbours.
+     * Every row of rooms has its own walls, which produces sub-line and partial adjacencies between rows.
+     */
+    GRID_FLOOR_PLAN,
+    /**
+     * Chains of rectangles nested inside each other, each chain up to 32 levels deep.
+     */
+    NESTED,
+    /**
+     * Long, thin rectangles that span most of the extent, so their borders hold very many integer nodes.
+     */
+    HUGE_PERIMETER
+}
@@ -0,0 +1,178 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.workload;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Produces reproducible synthetic rectangle datasets. The same seed, distribution, count and extent always produce the same list.
+ * All rectangles lie within the square from (0, 0) to (extent, extent).
+ */
+public class WorkloadGenerator {
+    private static final int MINIMUM_EXTENT = 64;
+    private static final int SMALL_SIDE_DIVISOR = 64;
+    private static final int RECTANGLES_PER_CLUSTER = 256;
+    private static final int MAXIMUM_NESTING_DEPTH = 32;
+    private static final int MINIMUM_OUTER_SIDE = 6 * MAXIMUM_NESTING_DEPTH;
+
+    private final long seed;
+
+    public WorkloadGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @param distribution: The shape of the dataset.
+     * @param count: The number of rectangles to produce.
+     * @param extent: The side length of the square all rectangles lie within. Must be at least 64.
+     * @return Returns a new list of exactly count rectangles.
+     */
+    public List<Rectangle> generate(WorkloadDistribution distribution, int count, int extent) {
+        if (count < 0) {
+            throw new IllegalArgumentException("The rectangle count must not be negative.");
+        }
+        if (extent < MINIMUM_EXTENT) {
+            throw new IllegalArgumentException("The extent must be at least " + MINIMUM_EXTENT + ".");
+        }
+
+        Random random = new Random(seed * 31 + distribution.ordinal());
+        List<Rectangle> rectangles = new ArrayList<>(count);
+        switch (distribution) {
+            case UNIFORM:
+                generateUniform(random, count, extent, rectangles);
+                break;
+            case CLUSTERED:
+                generateClustered(random, count, extent, rectangles);
+                break;
+            case GRID_FLOOR_PLAN:
+                generateFloorPlan(random, count, extent, rectangles);
+                break;
+            case NESTED:
+                generateNested(random, count, extent, rectangles);
+                break;
+            default:
+                generateHugePerimeter(random, count, extent, rectangles);
+        }
+        return rectangles;
+    }
+
+
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+    //~~~~~~~~~~ Private Methods ~~~~~~~~~~//
+    //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~//
+
+    private static void generateUniform(Random random, int count, int extent, List<Rectangle> rectangles) {
+        int maximumSide = extent / SMALL_SIDE_DIVISOR;
+        for (int index = 0; index < count; index++) {
+            int width = 1 + random.nextInt(maximumSide);
+            int height = 1 + random.nextInt(maximumSide);
+            rectangles.add(rectangle(random.nextInt(extent - width + 1), random.nextInt(extent - height + 1), width, height));
+        }
+    }
+
+    private static void generateClustered(Random random, int count, int extent, List<Rectangle> rectangles) {
+        int maximumSide = extent / SMALL_SIDE_DIVISOR;
+        int clusterCount = Math.max(1, count / RECTANGLES_PER_CLUSTER);
+        int[] centerX = new int[clusterCount];
+        int[] centerY = new int[clusterCount];
+        for (int cluster = 0; cluster < clusterCount; cluster++) {
+            centerX[cluster] = random.nextInt(extent);
+            centerY[cluster] = random.nextInt(extent);
+        }
+
+        double spread = extent / (double) SMALL_SIDE_DIVISOR;
+        for (int index = 0; index < count; index++) {
+            int cluster = random.nextInt(clusterCount);
+            int width = 1 + random.nextInt(maximumSide);
+            int height = 1 + random.nextInt(maximumSide);
+            int left = clamp((int) Math.round(centerX[cluster] + random.nextGaussian() * spread) - width / 2, extent - width);
+            int lower = clamp((int) Math.round(centerY[cluster] + random.nextGaussian() * spread) - height / 2, extent - height);
+            rectangles.add(rectangle(left, lower, width, height));
+        }
+    }
+
+    /**
+     * Cuts the extent into rows of rooms. Rows share their horizontal walls, while each row places its own vertical walls.
+     */
+    private static void generateFloorPlan(Random random, int count, int extent, List<Rectangle> rectangles) {
+        int columns = Math.max(1, (int) Math.ceil(Math.sqrt(count)));
+        int rows = Math.max(1, (count + columns - 1) / columns);
+        int baseSide = extent / Math.max(columns, rows);
+        if (baseSide < 2) {
+            throw new IllegalArgumentException("The extent is too small to hold " + count + " rooms.");
+        }
+
+        int lower = 0;
+        for (int row = 0; row < rows && rectangles.size() < count; row++) {
+            int height = baseSide / 2 + random.nextInt(baseSide - baseSide / 2) + 1;
+            int left = 0;
+            for (int column = 0; column < columns && rectangles.size() < count; column++) {
+                int width = baseSide / 2 + random.nextInt(baseSide - baseSide / 2) + 1;
+                rectangles.add(rectangle(left, lower, width, height));
+                left += width;
+            }
+            lower += height;
+        }
+    }
+
+    /**
+     * Places chains of rectangles that each shrink by one to three units on every side of the previous one.
+     */
+    private static void generateNested(Random random, int count, int extent, List<Rectangle> rectangles) {
+        int maximumOuterSide = extent / 8;
+        while (rectangles.size() < count) {
+            int depth = 1 + random.nextInt(MAXIMUM_NESTING_DEPTH);
+            int width = Math.min(extent, MINIMUM_OUTER_SIDE + random.nextInt(maximumOuterSide));
+            int height = Math.min(extent, MINIMUM_OUTER_SIDE + random.nextInt(maximumOuterSide));
+            int left = random.nextInt(extent - width + 1);
+            int lower = random.nextInt(extent - height + 1);
+
+            for (int level = 0; level < depth && rectangles.size() < count; level++) {
+                rectangles.add(rectangle(left, lower, width, height));
+                int leftInset = 1 + random.nextInt(3);
+                int rightInset = 1 + random.nextInt(3);
+                int lowerInset = 1 + random.nextInt(3);
+                int upperInset = 1 + random.nextInt(3);
+                if (width - leftInset - rightInset < 1 || height - lowerInset - upperInset < 1) {
+                    break;
+                }
+                left += leftInset;
+                lower += lowerInset;
+                width -= leftInset + rightInset;
+                height -= lowerInset + upperInset;
+            }
+        }
+    }
+
+    /**
+     * Alternates between horizontal and vertical bands that each cover at least half of the extent.
+     */
+    private static void generateHugePerimeter(Random random, int count, int extent, List<Rectangle> rectangles) {
+        int maximumThickness = extent / SMALL_SIDE_DIVISOR;
+        for (int index = 0; index < count; index++) {
+            int start = random.nextInt(extent / 4);
+            int length = extent - start - random.nextInt(extent / 4);
+            int thickness = 1 + random.nextInt(maximumThickness);
+            int offset = random.nextInt(extent - thickness + 1);
+            rectangles.add(index % 2 == 0
+                    ? rectangle(start, offset, length, thickness)
+                    : rectangle(offset, start, thickness, length));
+        }
+    }
+
+    private static int clamp(int value, int maximum) {
+        return Math.max(0, Math.min(maximum, value));
+    }
+
+    private static Rectangle rectangle(int left, int lower, int width, int height) {
+        try {
+            return new Rectangle(new Node(left, lower + height), new Node(left + width, lower));
+        } catch (InvalidDimensionsException e) {
+            throw new IllegalStateException("Generated an invalid rectangle.", e);
+        }
+    }
+}
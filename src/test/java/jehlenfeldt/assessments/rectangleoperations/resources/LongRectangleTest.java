@@ -0,0 +1,156 @@
+package jehlenfeldt.assessments.rectangleoperations.resources;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.Adjacency;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyType;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.LongAdjacency;
+import jehlenfeldt.assessments.rectangleoperations.resources.counting.RelationshipCounter;
+import jehlenfeldt.assessments.rectangleoperations.resources.counting.RelationshipCounts;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.Intersections;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.IntersectionType;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.LongIntersections;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.LongNode;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+import jehlenfeldt.assessments.rectangleoperations.resources.store.LongRectangleStore;
+import jehlenfeldt.assessments.rectangleoperations.resources.store.RectangleStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongRectangleTest {
+    private static final long FAR_OFFSET = 1L << 40;
+
+    @Test
+    void operations_matchRectangleForEverySmallRectanglePair() throws InvalidDimensionsException {
+        List<Rectangle> rectangles = buildAllRectanglesWithin(5);
+
+        for (long offset : new long[]{0, FAR_OFFSET, -FAR_OFFSET}) {
+            for (Rectangle rectangleOne : rectangles) {
+                LongRectangle longOne = toLong(rectangleOne, offset);
+                assertThat(longOne.getListOfIntegerNodes()).containsExactlyElementsOf(toLongNodes(rectangleOne.getListOfIntegerNodes(), offset));
+
+                for (Rectangle rectangleTwo : rectangles) {
+                    LongRectangle longTwo = toLong(rectangleTwo, offset);
+
+                    Intersections intersections = rectangleOne.identifyIntersections(rectangleTwo);
+                    LongIntersections longIntersections = longOne.identifyIntersections(longTwo);
+                    assertThat(longIntersections.getIntersectionType()).isEqualTo(intersections.getIntersectionType());
+                    assertThat(longIntersections.getIntersectionNodes())
+                            .containsExactlyElementsOf(toLongNodes(intersections.getIntersectionNodes(), offset));
+                    assertThat(longOne.countSharedBorderNodes(longTwo)).isEqualTo(intersections.getIntersectionNodes().size());
+
+                    assertThat(longOne.isFullyContainedBy(longTwo)).isEqualTo(rectangleOne.isFullyContainedBy(rectangleTwo));
+                    assertThat(longOne.findAnyAdjacencyWith(longTwo))
+                            .containsExactlyElementsOf(toLongAdjacencies(rectangleOne.findAnyAdjacencyWith(rectangleTwo), offset));
+                    assertThat(longOne.classifyRelationshipWith(longTwo)).isEqualTo(rectangleOne.classifyRelationshipWith(rectangleTwo));
+                }
+            }
+        }
+    }
+
+    @Test
+    void identifyIntersections_onlyVisitsSharedNodesOfHugeRectangles() throws InvalidDimensionsException {
+        LongRectangle huge = new LongRectangle(new LongNode(0, Long.MAX_VALUE), new LongNode(Long.MAX_VALUE, 0));
+        LongRectangle crossing = new LongRectangle(new LongNode(Long.MAX_VALUE - 10, 20), new LongNode(Long.MAX_VALUE, 10));
+
+        LongIntersections intersections = huge.identifyIntersections(crossing);
+
+        assertThat(intersections.getIntersectionType()).isEqualTo(IntersectionType.NODE);
+        assertThat(intersections.getIntersectionNodes()).hasSize(11)
+                .startsWith(new LongNode(Long.MAX_VALUE, 10))
+                .endsWith(new LongNode(Long.MAX_VALUE, 20));
+        assertThat(huge.findAnyAdjacencyWith(crossing)).singleElement()
+                .satisfies(adjacency -> assertThat(adjacency.getAdjacencyType()).isEqualTo(AdjacencyType.SUB_LINE));
+    }
+
+    @Test
+    void counts_failLoudlyInsteadOfOverflowing() throws InvalidDimensionsException {
+        LongRectangle huge = new LongRectangle(new LongNode(0, Long.MAX_VALUE), new LongNode(Long.MAX_VALUE, 0));
+        LongRectangle wide = new LongRectangle(new LongNode(0, 1), new LongNode(Long.MAX_VALUE / 4, 0));
+
+        assertThatThrownBy(huge::getIntegerNodeCount).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> huge.countSharedBorderNodes(huge)).isInstanceOf(ArithmeticException.class);
+        assertThat(wide.getIntegerNodeCount()).isEqualTo(2 * (Long.MAX_VALUE / 4) + 2);
+        assertThatThrownBy(wide::getListOfIntegerNodes).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void counts_failLoudlyWhenLinesSpanTheWholeLongRange() throws InvalidDimensionsException {
+        LongRectangle everything = new LongRectangle(new LongNode(Long.MIN_VALUE, Long.MAX_VALUE), new LongNode(Long.MAX_VALUE, Long.MIN_VALUE));
+        LongRectangle row = new LongRectangle(new LongNode(Long.MIN_VALUE, 1), new LongNode(Long.MAX_VALUE, 0));
+        LongRectangle corner = new LongRectangle(new LongNode(Long.MIN_VALUE, Long.MIN_VALUE + 2), new LongNode(Long.MIN_VALUE + 2, Long.MIN_VALUE));
+
+        assertThatThrownBy(everything::getIntegerNodeCount).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> row.countSharedBorderNodes(row)).isInstanceOf(ArithmeticException.class);
+        assertThat(everything.countSharedBorderNodes(corner)).isEqualTo(5);
+        assertThat(corner.identifyIntersections(everything).getIntersectionNodes()).hasSize(5);
+        assertThat(corner.getListOfIntegerNodes()).hasSize(8);
+    }
+
+    @Test
+    void store_rejectsInvertedLines() {
+        assertThatThrownBy(() -> new LongRectangleStore(new long[]{-5, 3}, new long[]{-5, 0}, new long[]{-1, 2}, new long[]{-1, 4}))
+                .isInstanceOf(InvalidDimensionsException.class)
+                .hasMessageContaining("index 1");
+        assertThatThrownBy(() -> new LongRectangle(new LongNode(0, -4), new LongNode(2, -1)))
+                .isInstanceOf(InvalidDimensionsException.class);
+    }
+
+    @Test
+    void countRelationships_matchesTheIntStoreForTranslatedRectangles() throws InvalidDimensionsException {
+        List<Rectangle> rectangles = buildAllRectanglesWithin(4);
+        List<LongRectangle> longRectangles = new ArrayList<>();
+        for (Rectangle rectangle : rectangles) {
+            longRectangles.add(toLong(rectangle, -FAR_OFFSET));
+        }
+
+        RelationshipCounts expected = RelationshipCounter.countRelationships(RectangleStore.of(rectangles));
+        RelationshipCounts actual = RelationshipCounter.countRelationships(LongRectangleStore.of(longRectangles));
+
+        assertThat(actual.getIntersectingPairs()).isEqualTo(expected.getIntersectingPairs());
+        assertThat(actual.getSharedBorderNodes()).isEqualTo(expected.getSharedBorderNodes());
+        assertThat(actual.getContainmentPairs()).isEqualTo(expected.getContainmentPairs());
+        for (AdjacencyType adjacencyType : AdjacencyType.values()) {
+            assertThat(actual.getAdjacencies(adjacencyType)).isEqualTo(expected.getAdjacencies(adjacencyType));
+        }
+        assertThat(LongRectangleStore.of(longRectangles).getRectangle(3)).isEqualTo(longRectangles.get(3));
+    }
+
+    private static LongRectangle toLong(Rectangle rectangle, long offset) throws InvalidDimensionsException {
+        return new LongRectangle(toLong(rectangle.getUpperLeftCorner(), offset), toLong(rectangle.getLowerRightCorner(), offset));
+    }
+
+    private static LongNode toLong(Node node, long offset) {
+        return new LongNode(node.getXCoordinate() + offset, node.getYCoordinate() + offset);
+    }
+
+    private static List<LongNode> toLongNodes(List<Node> nodes, long offset) {
+        return nodes.stream().map(node -> toLong(node, offset)).collect(Collectors.toList());
+    }
+
+    private static List<LongAdjacency> toLongAdjacencies(List<Adjacency> adjacencies, long offset) {
+        return adjacencies.stream()
+                .map(adjacency -> new LongAdjacency(adjacency.getAdjacencyType(), adjacency.getAdjacencyAxis(),
+                        toLong(adjacency.getStartNode(), offset), toLong(adjacency.getEndNode(), offset)))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Rectangle> buildAllRectanglesWithin(int extent) throws InvalidDimensionsException {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int left = 0; left < extent; left++) {
+            for (int right = left + 1; right <= extent; right++) {
+                for (int lower = 0; lower < extent; lower++) {
+                    for (int upper = lower + 1; upper <= extent; upper++) {
+                        rectangles.add(new Rectangle(new Node(left, upper), new Node(right, lower)));
+                    }
+                }
+            }
+        }
+        return rectangles;
+    }
+}
@@ -0,0 +1,39 @@
+package jehlenfeldt.assessments.rectangleoperations.resources;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds the random rectangles shared by the randomized tests.
+ */
+public final class TestRectangles {
+
+    private TestRectangles() {
+    }
+
+    /**
+     * @param extent: The exclusive bound of the left and lower lines.
+     * @param maxSide: The largest width and height.
+     * @return Returns a rectangle with its lower left corner within the extent and sides between 1 and maxSide.
+     */
+    public static Rectangle random(Random random, int extent, int maxSide) throws InvalidDimensionsException {
+        int left = random.nextInt(extent);
+        int lower = random.nextInt(extent);
+        return new Rectangle(new Node(left, lower + 1 + random.nextInt(maxSide)), new Node(left + 1 + random.nextInt(maxSide), lower));
+    }
+
+    /**
+     * @return Returns count rectangles built by {@link #random(Random, int, int)}.
+     */
+    public static List<Rectangle> random(Random random, int count, int extent, int maxSide) throws InvalidDimensionsException {
+        List<Rectangle> rectangles = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            rectangles.add(random(random, extent, maxSide));
+        }
+        return rectangles;
+    }
+}
@@ -0,0 +1,104 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.async;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.Adjacency;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.IntersectionType;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.Intersections;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncRectangleOperationsTest {
+
+    @Test
+    void operations_completeWithSameResultsAsSynchronousCalls() throws Exception {
+        Rectangle rectangleOne = new Rectangle(new Node(6, 15), new Node(11, 10));
+        Rectangle rectangleTwo = new Rectangle(new Node(9, 18), new Node(14, 13));
+
+        try (AsyncRectangleOperations operations = new AsyncRectangleOperations(2, 16)) {
+            Intersections intersections = operations.identifyIntersections(rectangleOne, rectangleTwo).get(5, TimeUnit.SECONDS);
+            Boolean contained = operations.isFullyContainedBy(rectangleOne, rectangleTwo).get(5, TimeUnit.SECONDS);
+            List<Adjacency> adjacencies = operations.findAnyAdjacencyWith(rectangleOne, rectangleTwo).get(5, TimeUnit.SECONDS);
+
+            assertThat(intersections.getIntersectionNodes()).containsExactlyElementsOf(rectangleOne.identifyIntersections(rectangleTwo).getIntersectionNodes());
+            assertThat(contained).isFalse();
+            assertThat(adjacencies).isEqualTo(rectangleOne.findAnyAdjacencyWith(rectangleTwo));
+        }
+    }
+
+    @Test
+    void cancel_stopsLongRunningIntersectionAndFreesTheThread() throws Exception {
+        try (AsyncRectangleOperations operations = new AsyncRectangleOperations(1, 4)) {
+            CompletableFuture<Intersections> slowFuture = operations.identifyIntersections(largeRectangleOne(), largeRectangleTwo());
+            Thread.sleep(50);
+            slowFuture.cancel(true);
+
+            CompletableFuture<Boolean> nextFuture = operations.isFullyContainedBy(largeRectangleOne(), largeRectangleTwo());
+
+            assertThat(nextFuture.get(5, TimeUnit.SECONDS)).isFalse();
+            assertThatThrownBy(slowFuture::join).isInstanceOf(CancellationException.class);
+        }
+    }
+
+    @Test
+    void deadline_failsWithTimeoutException() throws Exception {
+        try (AsyncRectangleOperations operations = new AsyncRectangleOperations(1, 4)) {
+            CompletableFuture<Intersections> future = operations.identifyIntersections(largeRectangleOne(), largeRectangleTwo(), 50, TimeUnit.MILLISECONDS);
+
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(TimeoutException.class);
+            assertThat(operations.isFullyContainedBy(largeRectangleOne(), largeRectangleTwo()).get(5, TimeUnit.SECONDS)).isFalse();
+        }
+    }
+
+    @Test
+    void batch_completesEveryRequestFromOneTask() throws Exception {
+        Rectangle rectangleOne = new Rectangle(new Node(5, 9), new Node(10, 2));
+        Rectangle rectangleTwo = new Rectangle(new Node(3, 11), new Node(15, 1));
+
+        try (AsyncRectangleOperations operations = new AsyncRectangleOperations(1, 1)) {
+            AsyncRectangleOperations.Batch batch = operations.newBatch();
+            CompletableFuture<Boolean> contained = batch.isFullyContainedBy(rectangleOne, rectangleTwo);
+            CompletableFuture<Intersections> intersections = batch.identifyIntersections(rectangleOne, rectangleTwo);
+            CompletableFuture<List<Adjacency>> adjacencies = batch.findAnyAdjacencyWith(rectangleOne, rectangleTwo);
+            batch.submit();
+
+            assertThat(contained.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(intersections.get(5, TimeUnit.SECONDS).getIntersectionType()).isEqualTo(IntersectionType.NON_INTERSECTING);
+            assertThat(adjacencies.get(5, TimeUnit.SECONDS)).isEmpty();
+        }
+    }
+
+    @Test
+    void submit_rejectsWhenQueueIsFull() throws Exception {
+        try (AsyncRectangleOperations operations = new AsyncRectangleOperations(1, 1)) {
+            CompletableFuture<Intersections> running = operations.identifyIntersections(largeRectangleOne(), largeRectangleTwo());
+            CompletableFuture<Intersections> queued = operations.identifyIntersections(largeRectangleOne(), largeRectangleTwo());
+            CompletableFuture<Intersections> rejected = operations.identifyIntersections(largeRectangleOne(), largeRectangleTwo());
+
+            assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+            running.cancel(true);
+            queued.cancel(true);
+        }
+    }
+
+    private static Rectangle largeRectangleOne() throws InvalidDimensionsException {
+        return new Rectangle(new Node(0, 20_000), new Node(20_000, 0));
+    }
+
+    private static Rectangle largeRectangleTwo() throws InvalidDimensionsException {
+        return new Rectangle(new Node(10, 20_010), new Node(20_010, 10));
+    }
+}
@@ -0,0 +1,84 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.components;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.TestRectangles;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.IntersectionType;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+import jehlenfeldt.assessments.rectangleoperations.resources.store.RectangleStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ComponentLabellerTest {
+
+    @Test
+    void label_respectsTheConnectivityRule() throws InvalidDimensionsException {
+        List<Rectangle> rectangles = Arrays.asList(
+                new Rectangle(new Node(0, 4), new Node(4, 0)),
+                new Rectangle(new Node(4, 4), new Node(8, 0)),
+                new Rectangle(new Node(6, 6), new Node(10, 2)),
+                new Rectangle(new Node(1, 3), new Node(3, 1)));
+        RectangleStore store = RectangleStore.of(rectangles);
+
+        assertThat(ComponentLabeller.label(store, ConnectivityRule.INTERSECTION)).containsExactly(0, 0, 0, 3);
+        assertThat(ComponentLabeller.label(store, ConnectivityRule.ADJACENCY)).containsExactly(0, 0, 2, 3);
+        assertThat(ComponentLabeller.label(store, ConnectivityRule.BOTH)).containsExactly(0, 0, 0, 3);
+        assertThat(ComponentLabeller.countComponents(ComponentLabeller.label(store, ConnectivityRule.BOTH))).isEqualTo(2);
+    }
+
+    @Test
+    void label_matchesBreadthFirstSearchOverTheRectangleOperations() throws InvalidDimensionsException {
+        Random random = new Random(11);
+        List<Rectangle> rectangles = TestRectangles.random(random, 600, 200, 8);
+        RectangleStore store = RectangleStore.of(rectangles);
+
+        for (ConnectivityRule connectivityRule : ConnectivityRule.values()) {
+            assertThat(ComponentLabeller.label(store, connectivityRule))
+                    .as(connectivityRule.name())
+                    .containsExactly(bruteForceLabels(rectangles, connectivityRule));
+        }
+    }
+
+    private static int[] bruteForceLabels(List<Rectangle> rectangles, ConnectivityRule connectivityRule) {
+        int[] labels = new int[rectangles.size()];
+        Arrays.fill(labels, -1);
+        for (int start = 0; start < rectangles.size(); start++) {
+            if (labels[start] >= 0) {
+                continue;
+            }
+            Deque<Integer> pending = new ArrayDeque<>(Collections.singletonList(start));
+            labels[start] = start;
+            while (!pending.isEmpty()) {
+                Rectangle current = rectangles.get(pending.pop());
+                for (int other = 0; other < rectangles.size(); other++) {
+                    if (labels[other] < 0 && connected(current, rectangles.get(other), connectivityRule)) {
+                        labels[other] = start;
+                        pending.push(other);
+                    }
+                }
+            }
+        }
+        return labels;
+    }
+
+    private static boolean connected(Rectangle first, Rectangle second, ConnectivityRule connectivityRule) {
+        boolean intersecting = first.identifyIntersections(second).getIntersectionType() != IntersectionType.NON_INTERSECTING;
+        boolean adjacent = !first.findAnyAdjacencyWith(second).isEmpty();
+        switch (connectivityRule) {
+            case INTERSECTION:
+                return intersecting;
+            case ADJACENCY:
+                return adjacent;
+            default:
+                return intersecting || adjacent;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.counting;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.TestRectangles;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.Adjacency;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyType;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+import jehlenfeldt.assessments.rectangleoperations.resources.store.RectangleStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RelationshipCounterTest {
+
+    @Test
+    void pairCounts_matchMaterializedResults() throws InvalidDimensionsException {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int left = 0; left < 4; left++) {
+            for (int right = left + 1; right <= 4; right++) {
+                for (int lower = 0; lower < 4; lower++) {
+                    for (int upper = lower + 1; upper <= 4; upper++) {
+                        rectangles.add(new Rectangle(new Node(left, upper), new Node(right, lower)));
+                    }
+                }
+            }
+        }
+
+        for (Rectangle rectangleOne : rectangles) {
+            assertThat(rectangleOne.getIntegerNodeCount()).isEqualTo(rectangleOne.getListOfIntegerNodes().size());
+            for (Rectangle rectangleTwo : rectangles) {
+                assertThat(rectangleOne.countSharedBorderNodes(rectangleTwo))
+                        .isEqualTo(rectangleOne.identifyIntersections(rectangleTwo).getIntersectionNodes().size());
+
+                List<Adjacency> adjacencies = rectangleOne.findAnyAdjacencyWith(rectangleTwo);
+                for (AdjacencyType adjacencyType : AdjacencyType.values()) {
+                    assertThat(rectangleOne.countAdjacenciesWith(rectangleTwo, adjacencyType))
+                            .isEqualTo(adjacencies.stream().filter(adjacency -> adjacency.getAdjacencyType() == adjacencyType).count());
+                }
+            }
+        }
+    }
+
+    @Test
+    void countRelationships_matchesPairwiseTotals() throws InvalidDimensionsException {
+        Random random = new Random(5);
+        List<Rectangle> rectangles = TestRectangles.random(random, 500, 60, 12);
+
+        long intersectingPairs = 0;
+        long sharedBorderNodes = 0;
+        long containmentPairs = 0;
+        long[] adjacencies = new long[AdjacencyType.values().length];
+        for (int first = 0; first < rectangles.size(); first++) {
+            for (int second = first + 1; second < rectangles.size(); second++) {
+                Rectangle rectangleOne = rectangles.get(first);
+                Rectangle rectangleTwo = rectangles.get(second);
+                int nodes = rectangleOne.identifyIntersections(rectangleTwo).getIntersectionNodes().size();
+                intersectingPairs += nodes > 0 ? 1 : 0;
+                sharedBorderNodes += nodes;
+                containmentPairs += rectangleOne.isFullyContainedBy(rectangleTwo) || rectangleTwo.isFullyContainedBy(rectangleOne) ? 1 : 0;
+                for (Adjacency adjacency : rectangleOne.findAnyAdjacencyWith(rectangleTwo)) {
+                    adjacencies[adjacency.getAdjacencyType().ordinal()]++;
+                }
+            }
+        }
+
+        RelationshipCounts counts = RelationshipCounter.countRelationships(RectangleStore.of(rectangles));
+
+        assertThat(counts.getIntersectingPairs()).isEqualTo(intersectingPairs);
+        assertThat(counts.getSharedBorderNodes()).isEqualTo(sharedBorderNodes);
+        assertThat(counts.getContainmentPairs()).isEqualTo(containmentPairs);
+        for (AdjacencyType adjacencyType : AdjacencyType.values()) {
+            assertThat(counts.getAdjacencies(adjacencyType)).isEqualTo(adjacencies[adjacencyType.ordinal()]);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.density;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DensityRasterBuilderTest {
+
+    @ParameterizedTest(name = "{index}: cell size {0}, {1}, {2} bands")
+    @MethodSource("rasterConfigurations")
+    void build_matchesBruteForceCounts(int cellSize, CoverageMode coverageMode, int bandCount) throws InvalidDimensionsException {
+        List<Rectangle> rectangles = buildSampleRectangles();
+
+        DensityRaster raster = new DensityRasterBuilder(cellSize, coverageMode, bandCount).build(rectangles);
+
+        for (int row = 0; row < raster.getRows(); row++) {
+            for (int column = 0; column < raster.getColumns(); column++) {
+                int expected = 0;
+                for (Rectangle rectangle : rectangles) {
+                    if (covers(raster, rectangle, column, row, coverageMode)) {
+                        expected++;
+                    }
+                }
+                assertThat(raster.getCount(column, row)).as("cell (%d, %d)", column, row).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void writeTo_writesHeaderFollowedByCounts() throws InvalidDimensionsException, IOException {
+        DensityRaster raster = new DensityRasterBuilder(2, CoverageMode.INTERIOR, 2).build(buildSampleRectangles());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        raster.writeTo(Channels.newChannel(output));
+
+        ByteBuffer written = ByteBuffer.wrap(output.toByteArray());
+        assertThat(written.remaining()).isEqualTo(raster.getSerializedSize());
+        assertThat(new int[] {written.getInt(), written.getInt(), written.getInt(), written.getInt(), written.getInt()})
+                .containsExactly(raster.getOriginX(), raster.getOriginY(), 2, raster.getColumns(), raster.getRows());
+        int[] counts = new int[raster.getColumns() * raster.getRows()];
+        written.asIntBuffer().get(counts);
+        assertThat(counts).containsExactly(raster.getCounts());
+    }
+
+    private static Stream<Arguments> rasterConfigurations() {
+        return Stream.of(
+                Arguments.of(1, CoverageMode.INTERIOR, 1),
+                Arguments.of(1, CoverageMode.BORDER_ONLY, 3),
+                Arguments.of(3, CoverageMode.INTERIOR, 4),
+                Arguments.of(3, CoverageMode.BORDER_ONLY, 2));
+    }
+
+    private static List<Rectangle> buildSampleRectangles() throws InvalidDimensionsException {
+        return Arrays.asList(
+                new Rectangle(new Node(2, 12), new Node(9, 3)),
+                new Rectangle(new Node(5, 8), new Node(14, 1)),
+                new Rectangle(new Node(3, 10), new Node(4, 9)),
+                new Rectangle(new Node(2, 12), new Node(9, 3)),
+                new Rectangle(new Node(10, 15), new Node(20, 6)));
+    }
+
+    private static boolean covers(DensityRaster raster, Rectangle rectangle, int column, int row, CoverageMode coverageMode) {
+        int cellLeft = raster.getOriginX() + column * raster.getCellSize();
+        int cellRight = cellLeft + raster.getCellSize() - 1;
+        int cellLower = raster.getOriginY() + row * raster.getCellSize();
+        int cellUpper = cellLower + raster.getCellSize() - 1;
+
+        if (coverageMode == CoverageMode.INTERIOR) {
+            return rectangle.getLeftXLine() <= cellRight && rectangle.getRightXLine() >= cellLeft
+                    && rectangle.getLowerYLine() <= cellUpper && rectangle.getUpperYLine() >= cellLower;
+        }
+
+        Set<Node> borderNodes = new HashSet<>(rectangle.getListOfIntegerNodes());
+        for (int x = cellLeft; x <= cellRight; x++) {
+            for (int y = cellLower; y <= cellUpper; y++) {
+                if (borderNodes.contains(new Node(x, y))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
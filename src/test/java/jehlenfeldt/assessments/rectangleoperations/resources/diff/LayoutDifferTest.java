@@ -0,0 +1,112 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.diff;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.TestRectangles;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.IntersectionType;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LayoutDifferTest {
+
+    @Test
+    void diffById_reportsRelationshipsOfMovedRectangle() throws InvalidDimensionsException {
+        Map<String, Rectangle> previous = new LinkedHashMap<>();
+        previous.put("a", new Rectangle(new Node(0, 10), new Node(10, 0)));
+        previous.put("b", new Rectangle(new Node(10, 8), new Node(15, 2)));
+        previous.put("c", new Rectangle(new Node(50, 60), new Node(60, 50)));
+        Map<String, Rectangle> current = new LinkedHashMap<>(previous);
+        current.put("b", new Rectangle(new Node(55, 58), new Node(70, 52)));
+
+        LayoutDiff<String> diff = LayoutDiffer.diffById(previous, current);
+
+        assertThat(diff.getRemoved()).hasSize(1);
+        assertThat(diff.getRemoved().get(0).getFirstKey()).isEqualTo("a");
+        assertThat(diff.getRemoved().get(0).getSecondKey()).isEqualTo("b");
+        assertThat(diff.getRemoved().get(0).getAdjacencies()).hasSize(1);
+        assertThat(diff.getAdded()).hasSize(1);
+        assertThat(diff.getAdded().get(0).getFirstKey()).isEqualTo("b");
+        assertThat(diff.getAdded().get(0).getSecondKey()).isEqualTo("c");
+        assertThat(diff.getAdded().get(0).getIntersections().getIntersectionType()).isEqualTo(IntersectionType.NODE);
+        assertThat(LayoutDiffer.diffById(previous, new LinkedHashMap<>(previous)).isEmpty()).isTrue();
+    }
+
+    @Test
+    void diffByEquality_matchesUnchangedRectanglesRegardlessOfPosition() throws InvalidDimensionsException {
+        Rectangle outer = new Rectangle(new Node(0, 20), new Node(20, 0));
+        Rectangle inner = new Rectangle(new Node(5, 10), new Node(10, 5));
+        Rectangle far = new Rectangle(new Node(40, 50), new Node(50, 40));
+
+        LayoutDiff<Integer> reordered = LayoutDiffer.diffByEquality(Arrays.asList(outer, inner, far), Arrays.asList(far, outer, inner));
+        assertThat(reordered.isEmpty()).isTrue();
+
+        LayoutDiff<Integer> innerRemoved = LayoutDiffer.diffByEquality(Arrays.asList(outer, inner), Arrays.asList(outer));
+        assertThat(innerRemoved.getAdded()).isEmpty();
+        assertThat(innerRemoved.getRemoved()).hasSize(1);
+        assertThat(innerRemoved.getRemoved().get(0).getFirstKey()).isZero();
+        assertThat(innerRemoved.getRemoved().get(0).getSecondKey()).isEqualTo(2);
+        assertThat(innerRemoved.getRemoved().get(0).isSecondContainedByFirst()).isTrue();
+    }
+
+    @Test
+    void diffById_matchesFullRecomputation() throws InvalidDimensionsException {
+        Random random = new Random(11);
+        for (int round = 0; round < 5; round++) {
+            Map<Integer, Rectangle> previous = new LinkedHashMap<>();
+            for (int key = 0; key < 300; key++) {
+                previous.put(key, TestRectangles.random(random, 200, 12));
+            }
+            Map<Integer, Rectangle> current = new LinkedHashMap<>(previous);
+            for (int change = 0; change < 10; change++) {
+                current.put(random.nextInt(300), TestRectangles.random(random, 200, 12));
+                current.remove(random.nextInt(300));
+                current.put(300 + change, TestRectangles.random(random, 200, 12));
+            }
+
+            Set<PairRelationship<Integer>> previousRelationships = allRelationships(previous);
+            Set<PairRelationship<Integer>> currentRelationships = allRelationships(current);
+            Set<PairRelationship<Integer>> expectedAdded = new HashSet<>(currentRelationships);
+            expectedAdded.removeAll(previousRelationships);
+            Set<PairRelationship<Integer>> expectedRemoved = new HashSet<>(previousRelationships);
+            expectedRemoved.removeAll(currentRelationships);
+
+            LayoutDiff<Integer> diff = LayoutDiffer.diffById(previous, current);
+            assertThat(diff.getAdded()).containsExactlyInAnyOrderElementsOf(expectedAdded);
+            assertThat(diff.getRemoved()).containsExactlyInAnyOrderElementsOf(expectedRemoved);
+        }
+    }
+
+    private static Set<PairRelationship<Integer>> allRelationships(Map<Integer, Rectangle> layout) {
+        List<Integer> keys = new ArrayList<>(layout.keySet());
+        keys.sort(null);
+        Set<PairRelationship<Integer>> relationships = new HashSet<>();
+        for (int first = 0; first < keys.size(); first++) {
+            for (int second = first + 1; second < keys.size(); second++) {
+                Rectangle firstRectangle = layout.get(keys.get(first));
+                Rectangle secondRectangle = layout.get(keys.get(second));
+                PairRelationship<Integer> relationship = new PairRelationship<>(keys.get(first), keys.get(second),
+                        firstRectangle.identifyIntersections(secondRectangle),
+                        firstRectangle.isFullyContainedBy(secondRectangle),
+                        secondRectangle.isFullyContainedBy(firstRectangle),
+                        firstRectangle.findAnyAdjacencyWith(secondRectangle));
+                if (relationship.getIntersections().getIntersectionType() != IntersectionType.NON_INTERSECTING
+                        || relationship.isFirstContainedBySecond() || relationship.isSecondContainedByFirst()
+                        || !relationship.getAdjacencies().isEmpty()) {
+                    relationships.add(relationship);
+                }
+            }
+        }
+        return relationships;
+    }
+}
@@ -0,0 +1,188 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.encoding;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.TestRectangles;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.Adjacency;
+import jehlenfeldt.assessments.rectangleoperations.resources.containment.Containment;
+import jehlenfeldt.assessments.rectangleoperations.resources.containment.ContainmentType;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.Intersections;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResultEncoderTest {
+
+    @Test
+    void binaryEncoder_roundTripsThroughAFileChannel(@TempDir Path directory) throws IOException, InvalidDimensionsException {
+        Random random = new Random(9);
+        List<Object> written = new ArrayList<>();
+        for (int count = 0; count < 200; count++) {
+            Rectangle first = TestRectangles.random(random, 40, 20);
+            Rectangle second = TestRectangles.random(random, 40, 20);
+            written.add(first.identifyIntersections(second));
+            written.addAll(first.findAnyAdjacencyWith(second));
+            written.add(Containment.between(first, second));
+        }
+
+        Path file = directory.resolve("results.bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            BinaryResultEncoder encoder = new BinaryResultEncoder(channel, 3, 64);
+            for (Object result : written) {
+                writeResult(encoder, result);
+            }
+            encoder.flush();
+        }
+
+        List<Object> read = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long records = new BinaryResultDecoder(channel, 64).readAll(collectingHandler(read));
+            assertThat(records).isEqualTo(written.size());
+        }
+        assertThat(read).containsExactlyElementsOf(written);
+    }
+
+    @Test
+    void binaryDecoder_rejectsATruncatedStream() throws IOException, InvalidDimensionsException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BinaryResultEncoder encoder = new BinaryResultEncoder(Channels.newChannel(output));
+        encoder.write(Containment.between(new Rectangle(new Node(1, 4), new Node(4, 1)), new Rectangle(new Node(0, 5), new Node(5, 0))));
+        encoder.flush();
+        byte[] truncated = Arrays.copyOf(output.toByteArray(), output.size() - 1);
+
+        BinaryResultDecoder decoder = new BinaryResultDecoder(Channels.newChannel(new ByteArrayInputStream(truncated)));
+        assertThatThrownBy(() -> decoder.readAll(collectingHandler(new ArrayList<>()))).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void binaryEncoder_recoversFromAChannelThatAcceptsNoBytes() throws IOException, InvalidDimensionsException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        WritableByteChannel target = Channels.newChannel(output);
+        AtomicBoolean accepting = new AtomicBoolean(false);
+        WritableByteChannel channel = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer source) throws IOException {
+                return accepting.get() ? target.write(source) : 0;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Rectangle inner = new Rectangle(new Node(1, 4), new Node(4, 1));
+        Rectangle outer = new Rectangle(new Node(0, 5), new Node(5, 0));
+        BinaryResultEncoder encoder = new BinaryResultEncoder(channel);
+
+        encoder.write(Containment.between(outer, inner));
+        assertThatThrownBy(encoder::flush).isInstanceOf(IOException.class);
+
+        accepting.set(true);
+        Containment containment = Containment.between(inner, outer);
+        encoder.write(containment);
+        encoder.flush();
+
+        List<Object> read = new ArrayList<>();
+        new BinaryResultDecoder(Channels.newChannel(new ByteArrayInputStream(output.toByteArray()))).readAll(collectingHandler(read));
+        assertThat(read).containsExactly(containment);
+    }
+
+    @Test
+    void textEncoder_writesOneLinePerResult() throws IOException, InvalidDimensionsException {
+        Rectangle outer = new Rectangle(new Node(0, 10), new Node(10, 0));
+        Rectangle inner = new Rectangle(new Node(2, 8), new Node(8, 2));
+        Rectangle beside = new Rectangle(new Node(10, 6), new Node(14, 4));
+        Rectangle crossing = new Rectangle(new Node(8, 12), new Node(12, 9));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        TextResultEncoder encoder = new TextResultEncoder(Channels.newChannel(output), 2, 64);
+        encoder.write(outer.identifyIntersections(crossing));
+        encoder.write(new Intersections(outer.identifyIntersections(inner).getIntersectionType(), new ArrayList<>()));
+        for (Adjacency adjacency : outer.findAnyAdjacencyWith(beside)) {
+            encoder.write(adjacency);
+        }
+        encoder.write(Containment.between(inner, outer));
+        encoder.write(Containment.between(outer, beside));
+        encoder.flush();
+
+        assertThat(new String(output.toByteArray(), StandardCharsets.US_ASCII)).isEqualTo(
+                "I NODE 8,10 10,9\n" +
+                "I NON_INTERSECTING\n" +
+                "A SUB_LINE X 10,4 10,6\n" +
+                "C FIRST_CONTAINED_BY_SECOND 2,8,8,2 0,10,10,0\n" +
+                "C NONE\n");
+        assertThat(Containment.between(outer, inner).getContainmentType()).isEqualTo(ContainmentType.SECOND_CONTAINED_BY_FIRST);
+    }
+
+    @Test
+    void textEncoder_flushesLongRecordsAcrossBuffers(@TempDir Path directory) throws IOException, InvalidDimensionsException {
+        Rectangle rectangle = new Rectangle(new Node(0, 300), new Node(300, 0));
+        Intersections intersections = rectangle.identifyIntersections(rectangle);
+
+        Path file = directory.resolve("results.txt");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            TextResultEncoder encoder = new TextResultEncoder(channel, 4, 64);
+            encoder.write(intersections);
+            encoder.flush();
+        }
+
+        String[] tokens = new String(Files.readAllBytes(file), StandardCharsets.US_ASCII).trim().split(" ");
+        assertThat(tokens).hasSize(intersections.getIntersectionNodes().size() + 2);
+        assertThat(tokens[1]).isEqualTo("ALL_POINTS_INTERSECT");
+        assertThat(tokens[2]).isEqualTo(intersections.getIntersectionNodes().get(0).getXCoordinate() + "," + intersections.getIntersectionNodes().get(0).getYCoordinate());
+    }
+
+    private static void writeResult(ResultEncoder encoder, Object result) throws IOException {
+        if (result instanceof Intersections) {
+            encoder.write((Intersections) result);
+        } else if (result instanceof Adjacency) {
+            encoder.write((Adjacency) result);
+        } else {
+            encoder.write((Containment) result);
+        }
+    }
+
+    private static ResultHandler collectingHandler(List<Object> results) {
+        return new ResultHandler() {
+            @Override
+            public void onIntersections(Intersections intersections) {
+                results.add(intersections);
+            }
+
+            @Override
+            public void onAdjacency(Adjacency adjacency) {
+                results.add(adjacency);
+            }
+
+            @Override
+            public void onContainment(Containment containment) {
+                results.add(containment);
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.index;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.TestRectangles;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RectangleIndexTest {
+
+    @Test
+    void distanceTo_measuresGapBetweenDisjointRectangles() throws InvalidDimensionsException {
+        Rectangle rectangleOne = new Rectangle(new Node(0, 4), new Node(2, 0));
+        Rectangle rectangleTwo = new Rectangle(new Node(5, 12), new Node(9, 8));
+        Rectangle touching = new Rectangle(new Node(2, 6), new Node(4, 4));
+
+        assertThat(rectangleOne.squaredDistanceTo(rectangleTwo)).isEqualTo(25);
+        assertThat(rectangleTwo.distanceTo(rectangleOne)).isEqualTo(5.0);
+        assertThat(rectangleOne.squaredDistanceTo(touching)).isZero();
+        assertThat(rectangleOne.squaredDistanceTo(new Node(1, 2))).isZero();
+        assertThat(rectangleOne.distanceTo(new Node(5, 8))).isEqualTo(5.0);
+    }
+
+    @Test
+    void distanceTo_isExactAtTheCoordinateLimits() throws InvalidDimensionsException {
+        Rectangle origin = new Rectangle(new Node(0, 1), new Node(1, 0));
+        Rectangle farCorner = new Rectangle(new Node(Integer.MAX_VALUE - 1, Integer.MAX_VALUE), new Node(Integer.MAX_VALUE, Integer.MAX_VALUE - 1));
+
+        long gap = Integer.MAX_VALUE - 2L;
+        assertThat(origin.squaredDistanceTo(farCorner)).isEqualTo(2 * gap * gap);
+    }
+
+    @Test
+    void findNearest_matchesBruteForceOrdering() throws InvalidDimensionsException {
+        Random random = new Random(3);
+        List<Rectangle> rectangles = TestRectangles.random(random, 2_000, 10_000, 50);
+        RectangleIndex index = new RectangleIndex(rectangles);
+
+        for (int query = 0; query < 50; query++) {
+            Rectangle queryRectangle = rectangles.get(random.nextInt(rectangles.size()));
+            Node queryNode = new Node(random.nextInt(10_000), random.nextInt(10_000));
+
+            int[] expectedForRectangle = IntStream.range(0, rectangles.size()).boxed()
+                    .sorted(Comparator.comparingLong((Integer candidate) -> rectangles.get(candidate).squaredDistanceTo(queryRectangle))
+                            .thenComparingInt(candidate -> candidate))
+                    .limit(10).mapToInt(Integer::intValue).toArray();
+            int[] expectedForNode = IntStream.range(0, rectangles.size()).boxed()
+                    .sorted(Comparator.comparingLong((Integer candidate) -> rectangles.get(candidate).squaredDistanceTo(queryNode))
+                            .thenComparingInt(candidate -> candidate))
+                    .limit(10).mapToInt(Integer::intValue).toArray();
+
+            assertThat(index.findNearestIndexes(queryRectangle, 10)).containsExactly(expectedForRectangle);
+            assertThat(index.findNearestIndexes(queryNode, 10)).containsExactly(expectedForNode);
+        }
+    }
+
+    @Test
+    void findNearest_returnsEverythingWhenFewerRectanglesThanRequested() throws InvalidDimensionsException {
+        List<Rectangle> rectangles = Arrays.asList(
+                new Rectangle(new Node(0, 1), new Node(1, 0)),
+                new Rectangle(new Node(10, 11), new Node(11, 10)));
+        RectangleIndex index = new RectangleIndex(rectangles);
+
+        assertThat(index.findNearest(new Node(9, 9), 5)).containsExactly(rectangles.get(1), rectangles.get(0));
+        assertThat(new RectangleIndex(new ArrayList<>()).findNearestIndexes(new Node(0, 0), 3)).isEmpty();
+    }
+
+    @Test
+    void findTouchingIndexes_matchesBruteForceFilter() throws InvalidDimensionsException {
+        Random random = new Random(5);
+        List<Rectangle> rectangles = TestRectangles.random(random, 2_000, 1_000, 20);
+        RectangleIndex index = new RectangleIndex(rectangles);
+
+        for (int query = 0; query < 50; query++) {
+            Rectangle window = rectangles.get(random.nextInt(rectangles.size()));
+            int[] expected = IntStream.range(0, rectangles.size())
+                    .filter(candidate -> rectangles.get(candidate).squaredDistanceTo(window) == 0)
+                    .toArray();
+
+            assertThat(index.findTouchingIndexes(window)).containsExactly(expected);
+        }
+        assertThat(new RectangleIndex(new ArrayList<>()).findTouchingIndexes(rectangles.get(0))).isEmpty();
+    }
+}
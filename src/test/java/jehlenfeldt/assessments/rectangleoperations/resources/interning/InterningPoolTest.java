@@ -0,0 +1,64 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.interning;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InterningPoolTest {
+
+    @Test
+    void internNode_returnsSameInstanceForEqualCoordinates() {
+        InterningPool pool = new InterningPool();
+
+        Node first = pool.internNode(4, 7);
+        Node second = pool.intern(new Node(4, 7));
+
+        assertThat(second).isSameAs(first);
+        assertThat(pool.internNode(7, 4)).isNotSameAs(first);
+    }
+
+    @Test
+    void internRectangle_returnsSameInstanceWithEqualHashAndCorners() throws InvalidDimensionsException {
+        InterningPool pool = new InterningPool();
+
+        Rectangle first = pool.internRectangle(1, 10, 6, 2);
+        Rectangle second = pool.intern(new Rectangle(new Node(1, 10), new Node(6, 2)));
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.hashCode()).isEqualTo(new Rectangle(new Node(1, 10), new Node(6, 2)).hashCode());
+        assertThat(pool.internNode(1, 10)).isEqualTo(first.getUpperLeftCorner());
+    }
+
+    @Test
+    void internRectangle_stillValidatesNewRectangles() {
+        InterningPool pool = new InterningPool();
+
+        assertThatThrownBy(() -> pool.internRectangle(6, 10, 1, 2)).isInstanceOf(InvalidDimensionsException.class);
+        assertThat(pool.rectangleCount()).isZero();
+    }
+
+    @Test
+    void intern_isConsistentAcrossThreads() {
+        InterningPool pool = new InterningPool();
+        ConcurrentHashMap<Node, Boolean> seen = new ConcurrentHashMap<>();
+
+        List<Node> interned = IntStream.range(0, 10_000).parallel()
+                .mapToObj(index -> pool.internNode(index % 10, index % 3))
+                .collect(Collectors.toList());
+        interned.forEach(node -> seen.put(node, Boolean.TRUE));
+
+        assertThat(seen).hasSize(30);
+        for (Node node : interned) {
+            assertThat(pool.intern(new Node(node))).isSameAs(node);
+        }
+    }
+}
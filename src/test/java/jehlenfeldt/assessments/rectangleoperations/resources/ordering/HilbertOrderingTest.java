@@ -0,0 +1,80 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.ordering;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.TestRectangles;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+import jehlenfeldt.assessments.rectangleoperations.resources.store.RectangleStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HilbertOrderingTest {
+
+    @Test
+    void hilbertKey_visitsNeighbouringCellsInSequence() {
+        int side = 16;
+        long[][] cellOfKey = new long[side * side][];
+        for (long x = 0; x < side; x++) {
+            for (long y = 0; y < side; y++) {
+                long key = HilbertOrdering.hilbertKey(x << 27, y << 27) >>> 54;
+                assertThat(cellOfKey[(int) key]).isNull();
+                cellOfKey[(int) key] = new long[]{x, y};
+            }
+        }
+
+        for (int key = 1; key < cellOfKey.length; key++) {
+            long step = Math.abs(cellOfKey[key][0] - cellOfKey[key - 1][0]) + Math.abs(cellOfKey[key][1] - cellOfKey[key - 1][1]);
+            assertThat(step).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void order_matchesAStableSequentialSortAndInvertsCorrectly() throws InvalidDimensionsException {
+        Random random = new Random(17);
+        List<Rectangle> rectangles = TestRectangles.random(random, 70_000, 2_000, 9);
+
+        Permutation permutation = HilbertOrdering.order(rectangles);
+
+        long minimumX = rectangles.stream().mapToLong(rectangle -> (long) rectangle.getLeftXLine() + rectangle.getRightXLine()).min().getAsLong();
+        long minimumY = rectangles.stream().mapToLong(rectangle -> (long) rectangle.getLowerYLine() + rectangle.getUpperYLine()).min().getAsLong();
+        long[] keys = rectangles.stream().mapToLong(rectangle -> HilbertOrdering.hilbertKey(
+                (long) rectangle.getLeftXLine() + rectangle.getRightXLine() - minimumX,
+                (long) rectangle.getLowerYLine() + rectangle.getUpperYLine() - minimumY)).toArray();
+        int[] expected = IntStream.range(0, rectangles.size()).boxed()
+                .sorted(Comparator.comparingLong((Integer index) -> keys[index]).thenComparingInt(index -> index))
+                .mapToInt(Integer::intValue).toArray();
+
+        assertThat(permutation.toOrderArray()).containsExactly(expected);
+        for (int position = 0; position < permutation.size(); position++) {
+            assertThat(permutation.getPosition(permutation.getOriginalIndex(position))).isEqualTo(position);
+        }
+    }
+
+    @Test
+    void apply_reordersListsAndStoresTheSameWay() throws InvalidDimensionsException {
+        List<Rectangle> rectangles = Arrays.asList(
+                new Rectangle(new Node(Integer.MAX_VALUE - 2, Integer.MAX_VALUE), new Node(Integer.MAX_VALUE, Integer.MAX_VALUE - 2)),
+                new Rectangle(new Node(0, 2), new Node(2, 0)),
+                new Rectangle(new Node(1_000, 1_002), new Node(1_002, 1_000)),
+                new Rectangle(new Node(0, Integer.MAX_VALUE), new Node(2, Integer.MAX_VALUE - 2)));
+
+        Permutation permutation = HilbertOrdering.order(rectangles);
+        List<Rectangle> reorderedList = permutation.apply(rectangles);
+        RectangleStore reorderedStore = permutation.apply(RectangleStore.of(rectangles));
+
+        assertThat(reorderedList).containsExactlyInAnyOrderElementsOf(rectangles);
+        assertThat(reorderedList.get(0)).isEqualTo(rectangles.get(1));
+        for (int position = 0; position < reorderedList.size(); position++) {
+            assertThat(reorderedStore.getRectangle(position)).isEqualTo(reorderedList.get(position));
+        }
+        assertThat(HilbertOrdering.order(new ArrayList<>()).size()).isZero();
+    }
+}
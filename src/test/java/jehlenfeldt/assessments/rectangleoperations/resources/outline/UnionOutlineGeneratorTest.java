@@ -0,0 +1,126 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.outline;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UnionOutlineGeneratorTest {
+
+    @Test
+    void generateOutlines_singleRectangleIsItsOwnOutline() throws InvalidDimensionsException {
+        List<RectilinearPolygon> polygons = UnionOutlineGenerator.generateOutlines(
+                Collections.singletonList(new Rectangle(new Node(1, 5), new Node(4, 2))));
+
+        assertThat(polygons).hasSize(1);
+        assertThat(polygons.get(0).getOuterBoundary())
+                .containsExactlyInAnyOrder(new Node(1, 5), new Node(1, 2), new Node(4, 2), new Node(4, 5));
+        assertThat(polygons.get(0).getHoles()).isEmpty();
+        assertThat(signedArea(polygons.get(0).getOuterBoundary())).isEqualTo(9);
+    }
+
+    @Test
+    void generateOutlines_adjacentRectanglesMergeIntoOneOutline() throws InvalidDimensionsException {
+        List<RectilinearPolygon> polygons = UnionOutlineGenerator.generateOutlines(Arrays.asList(
+                new Rectangle(new Node(0, 4), new Node(3, 0)),
+                new Rectangle(new Node(3, 4), new Node(6, 0))));
+
+        assertThat(polygons).hasSize(1);
+        assertThat(polygons.get(0).getOuterBoundary())
+                .containsExactlyInAnyOrder(new Node(0, 4), new Node(0, 0), new Node(6, 0), new Node(6, 4));
+    }
+
+    @Test
+    void generateOutlines_overlappingRectanglesFormOneOutline() throws InvalidDimensionsException {
+        List<RectilinearPolygon> polygons = UnionOutlineGenerator.generateOutlines(Arrays.asList(
+                new Rectangle(new Node(0, 4), new Node(4, 0)),
+                new Rectangle(new Node(2, 6), new Node(6, 2))));
+
+        assertThat(polygons).hasSize(1);
+        assertThat(polygons.get(0).getOuterBoundary()).hasSize(8);
+        assertThat(signedArea(polygons.get(0).getOuterBoundary())).isEqualTo(28);
+    }
+
+    @Test
+    void generateOutlines_cornerContactKeepsOutlinesSeparate() throws InvalidDimensionsException {
+        List<RectilinearPolygon> polygons = UnionOutlineGenerator.generateOutlines(Arrays.asList(
+                new Rectangle(new Node(0, 2), new Node(2, 0)),
+                new Rectangle(new Node(2, 4), new Node(4, 2))));
+
+        assertThat(polygons).hasSize(2);
+        assertThat(polygons).allSatisfy(polygon -> assertThat(polygon.getOuterBoundary()).hasSize(4));
+    }
+
+    @Test
+    void generateOutlines_frameProducesHoleAndIslandProducesSeparateOutline() throws InvalidDimensionsException {
+        List<RectilinearPolygon> polygons = UnionOutlineGenerator.generateOutlines(Arrays.asList(
+                new Rectangle(new Node(0, 10), new Node(10, 8)),
+                new Rectangle(new Node(0, 2), new Node(10, 0)),
+                new Rectangle(new Node(0, 10), new Node(2, 0)),
+                new Rectangle(new Node(8, 10), new Node(10, 0)),
+                new Rectangle(new Node(4, 6), new Node(6, 4))));
+
+        assertThat(polygons).hasSize(2);
+        RectilinearPolygon frame = polygons.stream().filter(polygon -> !polygon.getHoles().isEmpty()).findFirst().orElseThrow(AssertionError::new);
+        assertThat(frame.getHoles()).hasSize(1);
+        assertThat(frame.getHoles().get(0)).containsExactlyInAnyOrder(new Node(2, 8), new Node(2, 2), new Node(8, 2), new Node(8, 8));
+        assertThat(signedArea(frame.getHoles().get(0))).isEqualTo(-36);
+    }
+
+    @Test
+    void generateOutlines_enclosedAreaMatchesRasterizedUnion() throws InvalidDimensionsException {
+        Random random = new Random(42);
+        for (int iteration = 0; iteration < 50; iteration++) {
+            List<Rectangle> rectangles = new ArrayList<>();
+            boolean[][] covered = new boolean[30][30];
+            for (int count = 0; count < 12; count++) {
+                int left = random.nextInt(25);
+                int lower = random.nextInt(25);
+                int right = left + 1 + random.nextInt(5);
+                int upper = lower + 1 + random.nextInt(5);
+                rectangles.add(new Rectangle(new Node(left, upper), new Node(right, lower)));
+                for (int x = left; x < right; x++) {
+                    for (int y = lower; y < upper; y++) {
+                        covered[x][y] = true;
+                    }
+                }
+            }
+
+            long expectedArea = 0;
+            for (boolean[] column : covered) {
+                for (boolean cell : column) {
+                    expectedArea += cell ? 1 : 0;
+                }
+            }
+
+            long outlineArea = 0;
+            for (RectilinearPolygon polygon : UnionOutlineGenerator.generateOutlines(rectangles)) {
+                assertThat(signedArea(polygon.getOuterBoundary())).isPositive();
+                outlineArea += signedArea(polygon.getOuterBoundary());
+                for (List<Node> hole : polygon.getHoles()) {
+                    assertThat(signedArea(hole)).isNegative();
+                    outlineArea += signedArea(hole);
+                }
+            }
+            assertThat(outlineArea).isEqualTo(expectedArea);
+        }
+    }
+
+    private static long signedArea(List<Node> ring) {
+        long doubledArea = 0;
+        for (int index = 0; index < ring.size(); index++) {
+            Node current = ring.get(index);
+            Node next = ring.get((index + 1) % ring.size());
+            doubledArea += (long) current.getXCoordinate() * next.getYCoordinate() - (long) next.getXCoordinate() * current.getYCoordinate();
+        }
+        return doubledArea / 2;
+    }
+}
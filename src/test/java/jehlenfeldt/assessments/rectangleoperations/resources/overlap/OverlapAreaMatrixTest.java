@@ -0,0 +1,54 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.overlap;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.TestRectangles;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+import jehlenfeldt.assessments.rectangleoperations.resources.store.RectangleStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OverlapAreaMatrixTest {
+
+    @Test
+    void findOverlapRegionWith_returnsTheSharedRegion() throws InvalidDimensionsException {
+        Rectangle rectangleOne = new Rectangle(new Node(0, 10), new Node(10, 0));
+        Rectangle rectangleTwo = new Rectangle(new Node(4, 14), new Node(16, 6));
+        Rectangle touching = new Rectangle(new Node(10, 4), new Node(12, 2));
+        Rectangle inner = new Rectangle(new Node(2, 4), new Node(3, 2));
+
+        assertThat(rectangleOne.findOverlapRegionWith(rectangleTwo)).contains(new Rectangle(new Node(4, 10), new Node(10, 6)));
+        assertThat(rectangleOne.overlapAreaWith(rectangleTwo)).isEqualTo(24);
+        assertThat(rectangleOne.findOverlapRegionWith(touching)).isEmpty();
+        assertThat(rectangleOne.overlapAreaWith(touching)).isZero();
+        assertThat(rectangleOne.findOverlapRegionWith(inner)).contains(inner);
+        assertThat(rectangleOne.getArea()).isEqualTo(100);
+
+        Rectangle huge = new Rectangle(new Node(0, Integer.MAX_VALUE), new Node(Integer.MAX_VALUE, 0));
+        assertThat(huge.getArea()).isEqualTo((long) Integer.MAX_VALUE * Integer.MAX_VALUE);
+        assertThat(huge.overlapAreaWith(huge)).isEqualTo(huge.getArea());
+    }
+
+    @Test
+    void compute_matchesPairwiseOverlapAreas() throws InvalidDimensionsException {
+        Random random = new Random(5);
+        List<Rectangle> rectangles = TestRectangles.random(random, 400, 300, 40);
+
+        OverlapAreaMatrix matrix = OverlapAreaMatrix.compute(RectangleStore.of(rectangles), 7);
+
+        assertThat(matrix.size()).isEqualTo(rectangles.size());
+        for (int first = 0; first < rectangles.size(); first++) {
+            long total = 0;
+            for (int second = 0; second < rectangles.size(); second++) {
+                long expected = rectangles.get(first).overlapAreaWith(rectangles.get(second));
+                assertThat(matrix.getOverlapArea(first, second)).isEqualTo(expected);
+                total += first == second ? 0 : expected;
+            }
+            assertThat(matrix.getTotalOverlapArea(first)).isEqualTo(total);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.partition;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.TestRectangles;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.relationship.RelationshipRecord;
+import jehlenfeldt.assessments.rectangleoperations.resources.relationship.RelationshipDecoder;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionCoordinatorTest {
+
+    @Test
+    void partition_replicatesRectanglesCrossingTileBorders() throws InvalidDimensionsException {
+        List<Rectangle> rectangles = Arrays.asList(
+                new Rectangle(new Node(0, 10), new Node(2, 8)),
+                new Rectangle(new Node(4, 6), new Node(6, 4)),
+                new Rectangle(new Node(8, 2), new Node(10, 0)));
+
+        List<TileRequest> tiles = new PartitionCoordinator(2, 2, 1).partition(rectangles);
+
+        int placements = tiles.stream().mapToInt(TileRequest::size).sum();
+        assertThat(tiles).hasSize(4);
+        assertThat(placements).isEqualTo(6);
+    }
+
+    @Test
+    void computeRelationships_matchesSingleProcessClassificationWithoutDuplicates() throws InvalidDimensionsException {
+        Random random = new Random(11);
+        List<Rectangle> rectangles = TestRectangles.random(random, 400, 200, 30);
+
+        List<RelationshipRecord> expected = new ArrayList<>();
+        for (int first = 0; first < rectangles.size(); first++) {
+            for (int second = first + 1; second < rectangles.size(); second++) {
+                long relationshipCode = rectangles.get(first).classifyRelationshipWith(rectangles.get(second));
+                if (RelationshipDecoder.isIntersecting(relationshipCode)) {
+                    expected.add(new RelationshipRecord(first, second, relationshipCode));
+                }
+            }
+        }
+
+        List<RelationshipRecord> records = new PartitionCoordinator(3, 3, 2).computeRelationships(rectangles);
+
+        assertThat(records).containsExactlyElementsOf(expected);
+    }
+}
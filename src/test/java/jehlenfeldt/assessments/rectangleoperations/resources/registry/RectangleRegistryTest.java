@@ -0,0 +1,117 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.registry;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.intersection.IntersectionType;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RectangleRegistryTest {
+
+    @Test
+    void registerUpdateRemove_areVisibleThroughGetAndSnapshot() throws InvalidDimensionsException {
+        RectangleRegistry registry = new RectangleRegistry(4);
+        Rectangle first = new Rectangle(new Node(0, 4), new Node(4, 0));
+        Rectangle second = new Rectangle(new Node(10, 14), new Node(14, 10));
+
+        long firstId = registry.register(first);
+        long secondId = registry.register(second);
+        RegistrySnapshot before = registry.snapshot();
+
+        assertThat(firstId).isNotEqualTo(secondId);
+        assertThat(registry.get(firstId)).isEqualTo(first);
+        assertThat(registry.snapshot()).isSameAs(before);
+
+        Rectangle moved = new Rectangle(new Node(1, 5), new Node(5, 1));
+        assertThat(registry.update(firstId, moved)).isTrue();
+        assertThat(registry.remove(secondId)).isEqualTo(second);
+        assertThat(registry.update(secondId, moved)).isFalse();
+        assertThat(registry.remove(secondId)).isNull();
+
+        assertThat(before.size()).isEqualTo(2);
+        assertThat(before.get(firstId)).isEqualTo(first);
+        assertThat(registry.size()).isEqualTo(1);
+        assertThat(registry.snapshot().get(firstId)).isEqualTo(moved);
+        assertThat(registry.snapshot().get(secondId)).isNull();
+    }
+
+    @Test
+    void snapshotQueries_matchTheRectangleOperations() throws InvalidDimensionsException {
+        RectangleRegistry registry = new RectangleRegistry();
+        long outerId = registry.register(new Rectangle(new Node(0, 20), new Node(20, 0)));
+        long innerId = registry.register(new Rectangle(new Node(5, 10), new Node(10, 5)));
+        long besideId = registry.register(new Rectangle(new Node(20, 8), new Node(25, 2)));
+        registry.register(new Rectangle(new Node(100, 120), new Node(120, 100)));
+
+        RegistrySnapshot snapshot = registry.snapshot();
+        Rectangle query = new Rectangle(new Node(4, 12), new Node(12, 4));
+
+        assertThat(snapshot.findContainersOf(query)).containsExactly(outerId);
+        assertThat(snapshot.findContainedBy(query)).containsExactly(innerId);
+        assertThat(snapshot.findIntersections(query)).isEmpty();
+        assertThat(snapshot.findIntersections(new Rectangle(new Node(18, 6), new Node(22, 4))).keySet())
+                .containsExactly(outerId, besideId);
+        assertThat(snapshot.findIntersections(new Rectangle(new Node(18, 6), new Node(22, 4))).get(outerId).getIntersectionType())
+                .isNotEqualTo(IntersectionType.NON_INTERSECTING);
+        assertThat(snapshot.findAdjacencies(new Rectangle(new Node(15, 25), new Node(18, 20))).keySet())
+                .containsExactly(outerId);
+    }
+
+    @Test
+    void concurrentWriters_leaveAConsistentRegistry() throws Exception {
+        RectangleRegistry registry = new RectangleRegistry(8);
+        int writerCount = 6;
+        int perWriter = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(writerCount + 1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        try {
+            Future<Integer> reader = executor.submit(() -> {
+                int snapshots = 0;
+                while (writing.get()) {
+                    RegistrySnapshot snapshot = registry.snapshot();
+                    assertThat(snapshot.asMap()).hasSize(snapshot.size());
+                    snapshots++;
+                }
+                return snapshots;
+            });
+
+            List<Future<List<Long>>> writers = new ArrayList<>();
+            for (int writer = 0; writer < writerCount; writer++) {
+                int offset = writer * 1_000;
+                writers.add(executor.submit(() -> {
+                    List<Long> kept = new ArrayList<>();
+                    for (int count = 0; count < perWriter; count++) {
+                        Rectangle rectangle = new Rectangle(new Node(offset + count, 2), new Node(offset + count + 1, 0));
+                        long id = registry.register(rectangle);
+                        if (count % 2 == 0) {
+                            registry.remove(id);
+                        } else {
+                            kept.add(id);
+                        }
+                    }
+                    return kept;
+                }));
+            }
+
+            List<Long> expectedIds = new ArrayList<>();
+            for (Future<List<Long>> writer : writers) {
+                expectedIds.addAll(writer.get());
+            }
+            writing.set(false);
+            assertThat(reader.get()).isPositive();
+
+            assertThat(registry.snapshot().asMap().keySet()).containsExactlyInAnyOrderElementsOf(expectedIds);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
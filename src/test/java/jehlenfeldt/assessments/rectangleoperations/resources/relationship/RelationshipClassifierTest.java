@@ -0,0 +1,60 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.relationship;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyType;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RelationshipClassifierTest {
+
+    @Test
+    void classify_matchesExistingOperationsForEverySmallRectanglePair() throws InvalidDimensionsException {
+        List<Rectangle> rectangles = buildAllRectanglesWithin(5);
+
+        for (Rectangle rectangleOne : rectangles) {
+            for (Rectangle rectangleTwo : rectangles) {
+                long relationshipCode = rectangleOne.classifyRelationshipWith(rectangleTwo);
+
+                assertThat(RelationshipDecoder.toIntersectionType(relationshipCode))
+                        .isEqualTo(rectangleOne.identifyIntersections(rectangleTwo).getIntersectionType());
+                assertThat(RelationshipDecoder.isFirstContainedBySecond(relationshipCode)).isEqualTo(rectangleOne.isFullyContainedBy(rectangleTwo));
+                assertThat(RelationshipDecoder.isSecondContainedByFirst(relationshipCode)).isEqualTo(rectangleTwo.isFullyContainedBy(rectangleOne));
+                assertThat(RelationshipDecoder.isIdentical(relationshipCode)).isEqualTo(rectangleOne.equals(rectangleTwo));
+                assertThat(RelationshipDecoder.toAdjacencies(relationshipCode, rectangleOne, rectangleTwo))
+                        .containsExactlyElementsOf(rectangleOne.findAnyAdjacencyWith(rectangleTwo));
+            }
+        }
+    }
+
+    @Test
+    void classify_encodesSubLineAdjacency() throws InvalidDimensionsException {
+        Rectangle rectangleOne = new Rectangle(new Node(0, 10), new Node(5, 0));
+        Rectangle rectangleTwo = new Rectangle(new Node(5, 8), new Node(9, 2));
+
+        long relationshipCode = rectangleOne.classifyRelationshipWith(rectangleTwo);
+
+        assertThat(RelationshipDecoder.getAdjacencyType(relationshipCode, RectangleSide.RIGHT_X)).isEqualTo(AdjacencyType.SUB_LINE);
+        assertThat(RelationshipDecoder.isAdjacent(relationshipCode, RectangleSide.LEFT_X)).isFalse();
+        assertThat(RelationshipDecoder.hasAnyAdjacency(relationshipCode)).isTrue();
+    }
+
+    private static List<Rectangle> buildAllRectanglesWithin(int limit) throws InvalidDimensionsException {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int left = 0; left < limit; left++) {
+            for (int right = left + 1; right <= limit; right++) {
+                for (int lower = 0; lower < limit; lower++) {
+                    for (int upper = lower + 1; upper <= limit; upper++) {
+                        rectangles.add(new Rectangle(new Node(left, upper), new Node(right, lower)));
+                    }
+                }
+            }
+        }
+        return rectangles;
+    }
+}
@@ -0,0 +1,78 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.tracing;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.exceptions.InvalidDimensionsException;
+import jehlenfeldt.assessments.rectangleoperations.resources.shared.Node;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RectangleOperationEventTest {
+    private static final String PREFIX = "jehlenfeldt.rectangleoperations.";
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @Test
+    void operations_emitEventsWithDimensionsExitPathAndResultSize() throws InvalidDimensionsException, IOException {
+        Rectangle rectangleOne = new Rectangle(new Node(0, 4), new Node(4, 0));
+        Rectangle rectangleTwo = new Rectangle(new Node(2, 6), new Node(6, 2));
+        Rectangle farAway = new Rectangle(new Node(20, 24), new Node(24, 20));
+        Rectangle inner = new Rectangle(new Node(1, 3), new Node(3, 1));
+
+        Path recordingFile = temporaryDirectory.resolve("operations.jfr");
+        try (Recording recording = new Recording()) {
+            for (String eventName : new String[]{"IdentifyIntersections", "FindAnyAdjacency", "IsFullyContainedBy", "ListIntegerNodes"}) {
+                recording.enable(PREFIX + eventName).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+
+            rectangleOne.identifyIntersections(rectangleTwo);
+            rectangleOne.identifyIntersections(farAway);
+            rectangleOne.findAnyAdjacencyWith(inner);
+            inner.isFullyContainedBy(rectangleOne);
+            rectangleOne.getListOfIntegerNodes();
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+
+        List<RecordedEvent> intersections = eventsNamed(events, "IdentifyIntersections");
+        assertThat(intersections).extracting(event -> event.getString("exitPath"))
+                .containsExactly(ExitPath.FULL_COMPUTATION.name(), ExitPath.DISJOINT_BOUNDS.name());
+        assertThat(intersections.get(0).getInt("resultSize")).isEqualTo(2);
+        assertThat(intersections.get(0).getInt("rightXLine")).isEqualTo(4);
+        assertThat(intersections.get(1).getInt("secondLeftXLine")).isEqualTo(20);
+        assertThat(intersections.get(0).getDuration().isNegative()).isFalse();
+
+        RecordedEvent adjacency = eventsNamed(events, "FindAnyAdjacency").get(0);
+        assertThat(adjacency.getString("exitPath")).isEqualTo(ExitPath.CONTAINED.name());
+        assertThat(adjacency.getInt("resultSize")).isZero();
+
+        assertThat(eventsNamed(events, "IsFullyContainedBy")).singleElement()
+                .satisfies(event -> assertThat(event.getInt("resultSize")).isEqualTo(1));
+
+        List<RecordedEvent> integerNodes = eventsNamed(events, "ListIntegerNodes");
+        assertThat(integerNodes).extracting(event -> event.getInt("resultSize")).contains(16);
+        assertThat(integerNodes).extracting(event -> event.getInt("upperYLine")).contains(4);
+    }
+
+    private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String eventName) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(PREFIX + eventName))
+                .sorted((first, second) -> first.getStartTime().compareTo(second.getStartTime()))
+                .collect(Collectors.toList());
+    }
+}
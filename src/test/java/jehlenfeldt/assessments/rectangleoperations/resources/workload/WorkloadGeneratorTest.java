@@ -0,0 +1,82 @@
+package jehlenfeldt.assessments.rectangleoperations.resources.workload;
+
+import jehlenfeldt.assessments.rectangleoperations.resources.Rectangle;
+import jehlenfeldt.assessments.rectangleoperations.resources.adjacency.AdjacencyType;
+import jehlenfeldt.assessments.rectangleoperations.resources.async.AsyncRectangleOperations;
+import jehlenfeldt.assessments.rectangleoperations.resources.components.ConnectivityRule;
+import jehlenfeldt.assessments.rectangleoperations.resources.counting.RelationshipCounter;
+import jehlenfeldt.assessments.rectangleoperations.resources.counting.RelationshipCounts;
+import jehlenfeldt.assessments.rectangleoperations.resources.store.RectangleStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkloadGeneratorTest {
+    private static final int EXTENT = 10_000;
+
+    @Test
+    void generate_isReproducibleAndStaysWithinTheExtent() {
+        for (WorkloadDistribution distribution : WorkloadDistribution.values()) {
+            List<Rectangle> rectangles = new WorkloadGenerator(7).generate(distribution, 1_000, EXTENT);
+
+            assertThat(rectangles).as(distribution.name()).hasSize(1_000);
+            assertThat(new WorkloadGenerator(7).generate(distribution, 1_000, EXTENT)).isEqualTo(rectangles);
+            assertThat(new WorkloadGenerator(8).generate(distribution, 1_000, EXTENT)).isNotEqualTo(rectangles);
+            assertThat(rectangles).allSatisfy(rectangle -> {
+                assertThat(rectangle.getLeftXLine()).isNotNegative();
+                assertThat(rectangle.getLowerYLine()).isNotNegative();
+                assertThat(rectangle.getRightXLine()).isLessThanOrEqualTo(EXTENT);
+                assertThat(rectangle.getUpperYLine()).isLessThanOrEqualTo(EXTENT);
+            });
+        }
+    }
+
+    @Test
+    void generate_producesTheCharacteristicRelationships() {
+        WorkloadGenerator generator = new WorkloadGenerator(3);
+
+        RelationshipCounts floorPlan = countsOf(generator.generate(WorkloadDistribution.GRID_FLOOR_PLAN, 900, EXTENT));
+        assertThat(floorPlan.getAdjacencies(AdjacencyType.PROPER)).isGreaterThanOrEqualTo(29 * 30);
+        assertThat(floorPlan.getAdjacencies(AdjacencyType.PARTIAL)).isPositive();
+        assertThat(floorPlan.getContainmentPairs()).isZero();
+
+        RelationshipCounts nested = countsOf(generator.generate(WorkloadDistribution.NESTED, 900, EXTENT));
+        assertThat(nested.getContainmentPairs()).isGreaterThan(900);
+
+        List<Rectangle> hugePerimeter = generator.generate(WorkloadDistribution.HUGE_PERIMETER, 100, EXTENT);
+        assertThat(hugePerimeter).allSatisfy(rectangle -> assertThat(rectangle.getIntegerNodeCount()).isGreaterThanOrEqualTo(EXTENT));
+    }
+
+    @Test
+    void loadDriver_reportsEveryEntryPoint() throws InterruptedException {
+        List<Rectangle> rectangles = new WorkloadGenerator(5).generate(WorkloadDistribution.CLUSTERED, 2_000, EXTENT);
+        LoadDriver driver = new LoadDriver(1, 3, 5);
+
+        List<LoadReport> reports;
+        try (AsyncRectangleOperations operations = new AsyncRectangleOperations(2, 16)) {
+            reports = Arrays.asList(
+                    driver.runRelationshipCounts(rectangles),
+                    driver.runOverlapMatrix(rectangles, 2),
+                    driver.runComponentLabelling(rectangles, ConnectivityRule.BOTH),
+                    driver.runAsyncOperations(rectangles, operations, 300, 16),
+                    driver.runRegistryQueries(rectangles, 2, 40));
+        }
+
+        assertThat(reports).extracting(LoadReport::getOperations).containsExactly(6_000L, 6_000L, 6_000L, 900L, 120L);
+        assertThat(reports).extracting(LoadReport::getLatencySampleUnit).containsExactly("round", "round", "round", "request", "query");
+        assertThat(reports).allSatisfy(report -> {
+            assertThat(report.getFailedOperations()).isZero();
+            assertThat(report.getThroughputPerSecond()).isPositive();
+            assertThat(report.getP50LatencyNanos()).isPositive()
+                    .isLessThanOrEqualTo(report.getP90LatencyNanos());
+            assertThat(report.getP90LatencyNanos()).isLessThanOrEqualTo(report.getP99LatencyNanos());
+        });
+    }
+
+    private static RelationshipCounts countsOf(List<Rectangle> rectangles) {
+        return RelationshipCounter.countRelationships(RectangleStore.of(rectangles));
+    }
+}